@@ -0,0 +1,62 @@
+package com.financialledge.benchmark;
+
+import com.financialledge.MiniMoneyApplication;
+import com.financialledge.account.entity.Account;
+import com.financialledge.account.repository.AccountRepository;
+import com.financialledge.auth.entity.User;
+import com.financialledge.auth.repository.UserRepository;
+import com.financialledge.category.entity.Category;
+import com.financialledge.category.repository.CategoryRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트. 임베디드 H2 위에서 웹 서버 없이 기동한다.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        String database = "bench-" + UUID.randomUUID();
+        return new SpringApplicationBuilder(MiniMoneyApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=bench",
+                        "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.financialledge=WARN");
+    }
+
+    public static Fixture createFixture(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+        CategoryRepository categoryRepository = context.getBean(CategoryRepository.class);
+
+        User user = userRepository.save(User.builder()
+                .username("bench-" + UUID.randomUUID())
+                .email(UUID.randomUUID() + "@bench.local")
+                .password("{noop}bench")
+                .build());
+        Account account = accountRepository.save(Account.builder()
+                .name("Bench account")
+                .accountType(Account.AccountType.BANK)
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("Bench category " + UUID.randomUUID())
+                .transactionType(Category.TransactionType.EXPENSE)
+                .build());
+        return new Fixture(user.getId(), account.getId(), category.getId());
+    }
+
+    public record Fixture(Long userId, Long accountId, Long categoryId) {
+    }
+}
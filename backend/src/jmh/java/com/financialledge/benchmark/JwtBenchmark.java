@@ -0,0 +1,57 @@
+package com.financialledge.benchmark;
+
+import com.financialledge.auth.security.VerifiedToken;
+import com.financialledge.auth.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 비용. verifyCached 는 요청마다 같은 토큰이 오는 일반적인 경우,
+ * parseClaims 는 캐시 없이 서명 검증과 파싱을 모두 수행하는 경우다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-key-should-be-at-least-256-bits-long-for-hs256-algorithm-mini-money";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 86_400_000L);
+        token = jwtUtil.generateToken(1L, "bench", List.of("USER"));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(1L, "bench", List.of("USER"));
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public String parseClaims() {
+        return jwtUtil.getUsernameFromToken(token);
+    }
+}
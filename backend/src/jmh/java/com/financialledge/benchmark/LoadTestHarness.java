@@ -0,0 +1,316 @@
+package com.financialledge.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financialledge.MiniMoneyApplication;
+import com.financialledge.account.entity.Account;
+import com.financialledge.account.repository.AccountRepository;
+import com.financialledge.auth.dto.AuthRequest;
+import com.financialledge.auth.dto.AuthResponse;
+import com.financialledge.auth.repository.UserRepository;
+import com.financialledge.category.entity.Category;
+import com.financialledge.category.repository.CategoryRepository;
+import com.financialledge.common.metrics.QueryCountStatementInspector;
+import com.financialledge.transaction.service.TransactionService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 요청 처리 비교용 부하 테스트.
+ * 모드마다 임베디드 H2 위에 웹 서버를 띄우고, 동시 클라이언트 N 개가 거래 목록 첫 페이지를 계속 요청한다.
+ * H2 는 네트워크 왕복이 없으므로 SQL 문마다 loadtest.db-latency-ms 만큼 쉬어 실제 DB 대기를 흉내 낸다.
+ *
+ * ./gradlew loadTest [-Ploadtest.concurrency=2000 -Ploadtest.duration=30 -Ploadtest.pool-size=20 ...]
+ */
+public final class LoadTestHarness {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 1_000);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration", 20);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup", 5);
+    private static final int POOL_SIZE = Integer.getInteger("loadtest.pool-size", 10);
+    private static final int DB_LATENCY_MS = Integer.getInteger("loadtest.db-latency-ms", 5);
+    private static final int SEED_ROWS = Integer.getInteger("loadtest.seed-rows", 2_000);
+    private static final boolean ADMISSION = Boolean.parseBoolean(System.getProperty("loadtest.admission", "true"));
+    private static final List<String> MODES = List.of(System.getProperty("loadtest.modes", "platform,virtual").split(","));
+    private static final String PATH = "/api/transactions/page?size=20";
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("concurrency=%d duration=%ds warmup=%ds pool=%d db-latency=%dms admission=%s%n",
+                CONCURRENCY, DURATION_SECONDS, WARMUP_SECONDS, POOL_SIZE, DB_LATENCY_MS, ADMISSION);
+        List<Result> results = new ArrayList<>();
+        for (String mode : MODES) {
+            results.add(run(mode.trim()));
+        }
+        System.out.println();
+        System.out.printf("%-9s %9s %9s %8s %8s %8s %8s %8s %9s %9s%n",
+                "mode", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors", "threads", "rejected");
+        for (Result result : results) {
+            System.out.println(result);
+        }
+        System.exit(0);
+    }
+
+    private static Result run(String mode) throws Exception {
+        System.out.printf("%n== %s threads%n", mode);
+        try (ConfigurableApplicationContext context = start("virtual".equals(mode))) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            String baseUrl = "http://localhost:" + port;
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            String token = seed(context, client, baseUrl);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + PATH))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+
+            drive(client, request, WARMUP_SECONDS, null);
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            double rejectedBefore = counter(registry, "db.admission.rejected");
+            Stats stats = new Stats();
+            long start = System.nanoTime();
+            drive(client, request, DURATION_SECONDS, stats);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("admission wait: %s, hikari timeouts: %.0f%n",
+                    admissionWait(registry), counter(registry, "hikaricp.connections.timeout"));
+            return new Result(mode, stats, seconds, threads.getPeakThreadCount(),
+                    counter(registry, "db.admission.rejected") - rejectedBefore);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        String database = "load-" + UUID.randomUUID();
+        return new SpringApplicationBuilder(MiniMoneyApplication.class)
+                .initializers(context -> context.getBeanFactory()
+                        .registerSingleton("dbLatencyCustomizer", new DbLatencyCustomizer()))
+                .run("--spring.profiles.active=bench",
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--database.admission.enabled=" + ADMISSION,
+                        // 클라이언트가 한 사용자라 속도 제한에 바로 걸린다
+                        "--rate-limit.enabled=false",
+                        "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.jpa.hibernate.ddl-auto=validate",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.financialledge=WARN");
+    }
+
+    // 회원 가입으로 토큰을 받고, 거래는 서비스로 직접 넣는다
+    private static String seed(ConfigurableApplicationContext context, HttpClient client, String baseUrl)
+            throws Exception {
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        AuthRequest register = new AuthRequest();
+        register.setUsername("load-" + UUID.randomUUID().toString().substring(0, 8));
+        register.setEmail(register.getUsername() + "@load.local");
+        register.setPassword("load-test");
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/register"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(register)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Register failed: " + response.statusCode() + " " + response.body());
+        }
+        String token = objectMapper.readValue(response.body(), AuthResponse.class).getToken();
+
+        Long userId = context.getBean(UserRepository.class).findByUsername(register.getUsername())
+                .orElseThrow().getId();
+        Account account = context.getBean(AccountRepository.class).save(Account.builder()
+                .name("Load account")
+                .accountType(Account.AccountType.BANK)
+                .build());
+        Category category = context.getBean(CategoryRepository.class).save(Category.builder()
+                .name("Load category " + UUID.randomUUID())
+                .transactionType(Category.TransactionType.EXPENSE)
+                .build());
+        TransactionService transactionService = context.getBean(TransactionService.class);
+        DbLatencyCustomizer.enabled = false;
+        try {
+            for (int i = 0; i < SEED_ROWS; i++) {
+                transactionService.createTransaction(
+                        TransactionFixtures.newTransaction(i, account.getId(), category.getId()), userId);
+            }
+        } finally {
+            DbLatencyCustomizer.enabled = true;
+        }
+        return token;
+    }
+
+    // 동시 클라이언트 CONCURRENCY 개가 seconds 동안 요청을 반복한다. stats 가 null 이면 워밍업
+    private static void drive(HttpClient client, HttpRequest request, int seconds, Stats stats) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<long[]>> futures = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(clients.submit(() -> {
+                    long[] latencies = new long[256];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        long elapsed = System.nanoTime() - start;
+                        if (stats == null) {
+                            continue;
+                        }
+                        stats.status(status);
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = elapsed;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+            for (Future<long[]> future : futures) {
+                long[] latencies = future.get();
+                if (stats != null) {
+                    stats.add(latencies);
+                }
+            }
+        }
+    }
+
+    private static double counter(MeterRegistry registry, String name) {
+        FunctionCounter functionCounter = Search.in(registry).name(name).functionCounter();
+        if (functionCounter != null) {
+            return functionCounter.count();
+        }
+        return Search.in(registry).name(name).counters().stream().mapToDouble(c -> c.count()).sum();
+    }
+
+    private static String admissionWait(MeterRegistry registry) {
+        FunctionTimer timer = Search.in(registry).name("db.admission.wait").functionTimer();
+        if (timer == null) {
+            return "off";
+        }
+        return String.format("%.0f waits, mean %.1f ms", timer.count(), timer.mean(TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * SQL 문마다 DB 왕복 시간만큼 요청 스레드를 재운다. 요청당 SQL 수 집계(QueryCountStatementInspector)는 유지한다.
+     * 컨텍스트 초기화 시 직접 등록한 싱글톤이라 MetricsConfig 의 customizer 보다 나중에 적용된다.
+     */
+    private static final class DbLatencyCustomizer implements HibernatePropertiesCustomizer, Ordered {
+
+        static volatile boolean enabled = true;
+
+        @Override
+        public void customize(Map<String, Object> hibernateProperties) {
+            StatementInspector counting = new QueryCountStatementInspector();
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                if (enabled && DB_LATENCY_MS > 0) {
+                    try {
+                        Thread.sleep(DB_LATENCY_MS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return counting.inspect(sql);
+            });
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+
+    private static final class Stats {
+        private final List<long[]> latencies = new ArrayList<>();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        void status(int status) {
+            statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+
+        synchronized void add(long[] values) {
+            latencies.add(values);
+        }
+
+        long[] sorted() {
+            long[] all = latencies.stream().flatMapToLong(Arrays::stream).toArray();
+            Arrays.sort(all);
+            return all;
+        }
+
+        long errors() {
+            return statuses.entrySet().stream()
+                    .filter(e -> e.getKey() < 200 || e.getKey() >= 300)
+                    .mapToLong(e -> e.getValue().sum())
+                    .sum();
+        }
+
+        Map<Integer, Long> statusCounts() {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statuses.forEach((status, count) -> counts.put(status, count.sum()));
+            return counts;
+        }
+    }
+
+    private record Result(String mode, Stats stats, double seconds, int peakThreads, double rejected) {
+
+        @Override
+        public String toString() {
+            long[] sorted = stats.sorted();
+            return String.format("%-9s %9d %9.0f %8.1f %8.1f %8.1f %8.1f %8d %9d %9.0f   statuses=%s",
+                    mode, sorted.length, sorted.length / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6,
+                    stats.errors(), peakThreads, rejected, stats.statusCounts());
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.financialledge.benchmark;
+
+import com.financialledge.common.ratelimit.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 RateLimitFilter 가 치르는 비용. sameUser 는 한 사용자의 버킷을 여러 스레드가 동시에 CAS 하는 경우,
+ * manyUsers 는 사용자 10만 명에 고르게 퍼진 경우다. 한도는 걸리지 않을 만큼 크게 둔다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RateLimiterBenchmark {
+
+    private static final int USERS = 100_000;
+
+    private RateLimiter<Long> limiter;
+
+    @Setup
+    public void setUp() {
+        limiter = new RateLimiter<>(1_000_000_000, Duration.ofSeconds(1), USERS);
+        for (long i = 0; i < USERS; i++) {
+            limiter.tryAcquire(i);
+        }
+    }
+
+    @Benchmark
+    public long sameUser() {
+        return limiter.tryAcquire(1L);
+    }
+
+    @Benchmark
+    public long manyUsers() {
+        return limiter.tryAcquire(ThreadLocalRandom.current().nextLong(USERS));
+    }
+}
@@ -0,0 +1,51 @@
+package com.financialledge.benchmark;
+
+import com.financialledge.account.entity.Account;
+import com.financialledge.category.entity.Category;
+import com.financialledge.transaction.entity.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class TransactionFixtures {
+
+    static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+    private TransactionFixtures() {
+    }
+
+    static Transaction newTransaction(int i, Long accountId, Long categoryId) {
+        return Transaction.builder()
+                .transactionDate(START_DATE.plusDays(i % 730))
+                .description("Merchant " + (i % 500))
+                .amount(BigDecimal.valueOf(1_000 + (i % 50_000), 2))
+                .transactionType(i % 10 == 0 ? Transaction.TransactionType.INCOME : Transaction.TransactionType.EXPENSE)
+                .category(Category.builder().id(categoryId).build())
+                .account(Account.builder().id(accountId).build())
+                .notes(i % 3 == 0 ? "note " + i : null)
+                .build();
+    }
+
+    // 직렬화 벤치마크용: 조회 결과처럼 id 와 시각이 채워진 거래 목록
+    static List<Transaction> detachedTransactions(int size) {
+        List<Transaction> transactions = new ArrayList<>(size);
+        Category category = Category.builder()
+                .id(1L).name("Food").color("#ff8800").transactionType(Category.TransactionType.EXPENSE).build();
+        Account account = Account.builder()
+                .id(1L).name("Main").accountType(Account.AccountType.BANK).build();
+        for (int i = 0; i < size; i++) {
+            Transaction transaction = newTransaction(i, 1L, 1L);
+            transaction.setId((long) i + 1);
+            transaction.setUserId(1L);
+            transaction.setCategory(category);
+            transaction.setAccount(account);
+            transaction.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(i));
+            transaction.setUpdatedAt(transaction.getCreatedAt());
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+}
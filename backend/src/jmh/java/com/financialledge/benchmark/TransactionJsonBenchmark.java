@@ -0,0 +1,49 @@
+package com.financialledge.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financialledge.transaction.entity.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 목록 JSON 직렬화 비용 (컨트롤러 응답 경로).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionJsonBenchmark {
+
+    @Param({"50", "1000"})
+    int size;
+
+    private ObjectMapper objectMapper;
+    private List<Transaction> transactions;
+
+    @Setup
+    public void setUp() {
+        // Spring MVC 와 동일한 기본 설정 (JavaTimeModule 등)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        transactions = TransactionFixtures.detachedTransactions(size);
+    }
+
+    @Benchmark
+    public byte[] serializeTransactions() throws Exception {
+        return objectMapper.writeValueAsBytes(transactions);
+    }
+}
@@ -0,0 +1,72 @@
+package com.financialledge.benchmark;
+
+import com.financialledge.transaction.dto.TransactionPageResponse;
+import com.financialledge.transaction.dto.TransactionResponse;
+import com.financialledge.transaction.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TransactionService 쓰기/목록 조회 경로 (임베디드 H2).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionServiceBenchmark {
+
+    private static final int SEED_ROWS = 5_000;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private BenchmarkApplication.Fixture fixture;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        transactionService = context.getBean(TransactionService.class);
+        fixture = BenchmarkApplication.createFixture(context);
+        for (int i = 0; i < SEED_ROWS; i++) {
+            createTransaction();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionResponse createTransaction() {
+        return transactionService.createTransaction(
+                TransactionFixtures.newTransaction(counter++, fixture.accountId(), fixture.categoryId()),
+                fixture.userId());
+    }
+
+    @Benchmark
+    public TransactionPageResponse listFirstPage() {
+        return transactionService.getTransactionPage(fixture.userId(), null, 50);
+    }
+
+    @Benchmark
+    public List<TransactionResponse> listAll() {
+        return transactionService.getAllTransactions(fixture.userId());
+    }
+}
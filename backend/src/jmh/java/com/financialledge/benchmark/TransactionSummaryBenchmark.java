@@ -0,0 +1,84 @@
+package com.financialledge.benchmark;
+
+import com.financialledge.transaction.dto.CategoryTotal;
+import com.financialledge.transaction.dto.DailyTotal;
+import com.financialledge.transaction.dto.MonthlyTotal;
+import com.financialledge.transaction.dto.TransactionSummaryResponse;
+import com.financialledge.transaction.service.TransactionService;
+import com.financialledge.transaction.service.TransactionSummaryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통계 화면 집계 경로 (daily_user_totals 롤업 조회).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionSummaryBenchmark {
+
+    private static final int SEED_ROWS = 20_000;
+
+    private ConfigurableApplicationContext context;
+    private TransactionSummaryService transactionSummaryService;
+    private Long userId;
+    private final LocalDate from = TransactionFixtures.START_DATE;
+    private final LocalDate monthEnd = TransactionFixtures.START_DATE.plusMonths(1).minusDays(1);
+    private final LocalDate yearEnd = TransactionFixtures.START_DATE.plusYears(1).minusDays(1);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        transactionSummaryService = context.getBean(TransactionSummaryService.class);
+        TransactionService transactionService = context.getBean(TransactionService.class);
+        BenchmarkApplication.Fixture fixture = BenchmarkApplication.createFixture(context);
+        userId = fixture.userId();
+        for (int i = 0; i < SEED_ROWS; i++) {
+            transactionService.createTransaction(
+                    TransactionFixtures.newTransaction(i, fixture.accountId(), fixture.categoryId()), userId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionSummaryResponse monthSummary() {
+        return transactionSummaryService.getSummary(userId, from, monthEnd);
+    }
+
+    @Benchmark
+    public List<DailyTotal> monthCalendar() {
+        return transactionSummaryService.getDailyTotals(userId, from, monthEnd);
+    }
+
+    @Benchmark
+    public List<MonthlyTotal> yearByMonth() {
+        return transactionSummaryService.getMonthlyTotals(userId, from, yearEnd);
+    }
+
+    @Benchmark
+    public List<CategoryTotal> yearByCategory() {
+        return transactionSummaryService.getCategoryTotals(userId, from, yearEnd);
+    }
+}
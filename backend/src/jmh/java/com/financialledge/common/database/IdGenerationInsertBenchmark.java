@@ -0,0 +1,127 @@
+package com.financialledge.common.database;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * IDENTITY 와 pooled SEQUENCE 의 INSERT 처리량 (임베디드 H2, 독립 SessionFactory).
+ * 애플리케이션 엔티티 스캔은 도메인 entity 패키지로 한정되어 있어(MiniMoneyApplication) BenchmarkApplication 에 잡히지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGenerationInsertBenchmark {
+
+    private static final int ROWS_PER_INVOCATION = 1_000;
+    private static final int BATCH_SIZE = 50;
+
+    private SessionFactory sessionFactory;
+
+    @Entity
+    @Table(name = "bench_identity_rows")
+    static class IdentityRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @Column(name = "transaction_date")
+        LocalDate transactionDate;
+        String description;
+        BigDecimal amount;
+    }
+
+    @Entity
+    @Table(name = "bench_sequence_rows")
+    static class SequenceRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bench_sequence_rows_seq")
+        @SequenceGenerator(name = "bench_sequence_rows_seq", sequenceName = "bench_sequence_rows_seq", allocationSize = 50)
+        Long id;
+        @Column(name = "transaction_date")
+        LocalDate transactionDate;
+        String description;
+        BigDecimal amount;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(SequenceRow.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:id-benchmark;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public void identityInsert() {
+        insert(i -> {
+            IdentityRow row = new IdentityRow();
+            row.transactionDate = LocalDate.of(2024, 1, 1).plusDays(i % 365);
+            row.description = "row " + i;
+            row.amount = BigDecimal.valueOf(i % 10_000, 2);
+            return row;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public void sequenceInsert() {
+        insert(i -> {
+            SequenceRow row = new SequenceRow();
+            row.transactionDate = LocalDate.of(2024, 1, 1).plusDays(i % 365);
+            row.description = "row " + i;
+            row.amount = BigDecimal.valueOf(i % 10_000, 2);
+            return row;
+        });
+    }
+
+    private void insert(IntFunction<Object> rowFactory) {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+                session.persist(rowFactory.apply(i));
+            }
+            session.getTransaction().commit();
+        }
+    }
+}
@@ -2,8 +2,20 @@ package com.financialledge;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
 
 @SpringBootApplication
+// 엔티티는 도메인별 entity 패키지에만 둔다 (테스트/벤치마크 전용 엔티티가 스캔되지 않도록)
+@EntityScan(basePackages = {
+        "com.financialledge.account.entity",
+        "com.financialledge.auth.entity",
+        "com.financialledge.budget.entity",
+        "com.financialledge.category.entity",
+        "com.financialledge.common.outbox.entity",
+        "com.financialledge.sync.entity",
+        "com.financialledge.tag.entity",
+        "com.financialledge.transaction.entity"
+})
 public class MiniMoneyApplication {
 
     public static void main(String[] args) {
@@ -11,4 +23,3 @@ public class MiniMoneyApplication {
     }
 
 }
-
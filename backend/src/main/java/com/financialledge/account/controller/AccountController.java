@@ -1,13 +1,18 @@
 package com.financialledge.account.controller;
 
+import com.financialledge.account.dto.AccountBalanceResponse;
+import com.financialledge.account.dto.AccountResponse;
 import com.financialledge.account.entity.Account;
+import com.financialledge.account.service.AccountBalanceCheckpointService;
 import com.financialledge.account.service.AccountService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -16,51 +21,61 @@ import java.util.List;
 public class AccountController {
 
     private final AccountService accountService;
+    private final AccountBalanceCheckpointService accountBalanceCheckpointService;
 
     @GetMapping
-    public ResponseEntity<List<Account>> getAllAccounts() {
-        List<Account> accounts = accountService.getAllAccounts();
+    public ResponseEntity<List<AccountResponse>> getAllAccounts() {
+        List<AccountResponse> accounts = accountService.getAllAccounts();
         return ResponseEntity.ok(accounts);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Account> getAccountById(@PathVariable Long id) {
-        Account account = accountService.getAccountById(id);
+    public ResponseEntity<AccountResponse> getAccountById(@PathVariable Long id) {
+        AccountResponse account = accountService.getAccountById(id);
         return ResponseEntity.ok(account);
     }
 
     @GetMapping("/type/{type}")
-    public ResponseEntity<List<Account>> getAccountsByType(
+    public ResponseEntity<List<AccountResponse>> getAccountsByType(
             @PathVariable Account.AccountType type) {
-        List<Account> accounts = accountService.getAccountsByType(type);
+        List<AccountResponse> accounts = accountService.getAccountsByType(type);
         return ResponseEntity.ok(accounts);
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<Account>> getActiveAccounts() {
-        List<Account> accounts = accountService.getActiveAccounts();
+    public ResponseEntity<List<AccountResponse>> getActiveAccounts() {
+        List<AccountResponse> accounts = accountService.getActiveAccounts();
         return ResponseEntity.ok(accounts);
     }
 
     @PostMapping
-    public ResponseEntity<Account> createAccount(@RequestBody Account account) {
-        Account createdAccount = accountService.createAccount(account);
+    public ResponseEntity<AccountResponse> createAccount(@RequestBody Account account) {
+        AccountResponse createdAccount = accountService.createAccount(account);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdAccount);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Account> updateAccount(
+    public ResponseEntity<AccountResponse> updateAccount(
             @PathVariable Long id,
             @RequestBody Account account) {
-        Account updatedAccount = accountService.updateAccount(id, account);
+        AccountResponse updatedAccount = accountService.updateAccount(id, account);
         return ResponseEntity.ok(updatedAccount);
     }
 
+    @GetMapping("/{id}/balance")
+    public ResponseEntity<AccountBalanceResponse> getBalanceAsOf(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        AccountBalanceResponse balance = accountBalanceCheckpointService.getBalanceAsOf(
+                id, asOf != null ? asOf : LocalDate.now());
+        return ResponseEntity.ok(balance);
+    }
+
     @PutMapping("/{id}/balance")
-    public ResponseEntity<Account> updateBalance(
+    public ResponseEntity<AccountResponse> updateBalance(
             @PathVariable Long id,
             @RequestBody BigDecimal balance) {
-        Account updatedAccount = accountService.updateBalance(id, balance);
+        AccountResponse updatedAccount = accountService.updateBalance(id, balance);
         return ResponseEntity.ok(updatedAccount);
     }
 
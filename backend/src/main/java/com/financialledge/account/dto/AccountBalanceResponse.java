@@ -0,0 +1,22 @@
+package com.financialledge.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceResponse {
+    private Long accountId;
+    private LocalDate asOf;
+    private BigDecimal balance;
+    private String currency;
+    // 계산에 사용한 체크포인트 (없으면 null)
+    private LocalDate checkpointDate;
+}
@@ -0,0 +1,18 @@
+package com.financialledge.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 다른 응답에 포함되는 계좌 요약
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountRef {
+    private Long id;
+    private String name;
+
+    public static AccountRef of(Long id, String name) {
+        return id == null ? null : new AccountRef(id, name);
+    }
+}
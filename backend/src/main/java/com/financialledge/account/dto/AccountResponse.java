@@ -0,0 +1,31 @@
+package com.financialledge.account.dto;
+
+import com.financialledge.account.entity.Account;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountResponse {
+    private Long id;
+    private String name;
+    private Account.AccountType accountType;
+    private BigDecimal balance;
+    private String currency;
+    private String description;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // 연관 관계가 없는 엔티티라 2차 캐시에서 읽은 엔티티를 그대로 옮긴다
+    public static AccountResponse from(Account account) {
+        return new AccountResponse(account.getId(), account.getName(), account.getAccountType(),
+                account.getBalance(), account.getCurrency(), account.getDescription(), account.getIsActive(),
+                account.getCreatedAt(), account.getUpdatedAt());
+    }
+}
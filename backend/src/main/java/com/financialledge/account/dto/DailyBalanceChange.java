@@ -0,0 +1,16 @@
+package com.financialledge.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyBalanceChange {
+    private LocalDate date;
+    private BigDecimal amount;
+}
@@ -1,11 +1,14 @@
 package com.financialledge.account.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.financialledge.common.cache.ReferenceCacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -16,6 +19,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheRegions.ACCOUNTS)
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Account {
 
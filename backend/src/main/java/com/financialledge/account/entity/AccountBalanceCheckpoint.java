@@ -0,0 +1,51 @@
+package com.financialledge.account.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 잔액 체크포인트. balance 는 checkpointDate 마감(포함) 시점의 잔액이며,
+ * 이후 그 이전 날짜의 거래나 잔액 보정이 쓰이면 같은 DB 트랜잭션에서 증분 갱신된다.
+ * 계좌마다 개설 잔액을 담은 {@link #OPENING_DATE} 체크포인트가 하나 있고, 나머지는 월말 체크포인트다.
+ */
+@Entity
+@Table(name = "account_balance_checkpoints", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_account_balance_checkpoints_key", columnNames = {"account_id", "checkpoint_date"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceCheckpoint {
+
+    public static final LocalDate OPENING_DATE = LocalDate.of(1, 1, 1);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "checkpoint_date", nullable = false)
+    private LocalDate checkpointDate;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
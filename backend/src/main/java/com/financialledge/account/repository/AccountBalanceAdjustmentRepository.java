@@ -0,0 +1,34 @@
+package com.financialledge.account.repository;
+
+import com.financialledge.account.dto.DailyBalanceChange;
+import com.financialledge.account.entity.AccountBalanceAdjustment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AccountBalanceAdjustmentRepository extends JpaRepository<AccountBalanceAdjustment, Long> {
+
+    // (after, until] 구간의 보정 합계
+    @Query("SELECT COALESCE(SUM(a.amount), 0) FROM AccountBalanceAdjustment a " +
+            "WHERE a.accountId = :accountId AND a.adjustmentDate > :after AND a.adjustmentDate <= :until")
+    BigDecimal sumAmount(Long accountId, LocalDate after, LocalDate until);
+
+    @Query("SELECT new com.financialledge.account.dto.DailyBalanceChange(a.adjustmentDate, SUM(a.amount)) " +
+            "FROM AccountBalanceAdjustment a " +
+            "WHERE a.accountId = :accountId AND a.adjustmentDate > :after AND a.adjustmentDate <= :until " +
+            "GROUP BY a.adjustmentDate")
+    List<DailyBalanceChange> sumAmountByDate(Long accountId, LocalDate after, LocalDate until);
+
+    @Query("SELECT MIN(a.adjustmentDate) FROM AccountBalanceAdjustment a WHERE a.accountId = :accountId")
+    LocalDate findFirstAdjustmentDate(Long accountId);
+
+    @Modifying
+    @Query("DELETE FROM AccountBalanceAdjustment a WHERE a.accountId = :accountId")
+    int deleteByAccountId(Long accountId);
+}
@@ -0,0 +1,63 @@
+package com.financialledge.account.repository;
+
+import com.financialledge.account.dto.DailyBalanceChange;
+import com.financialledge.account.entity.AccountBalanceCheckpoint;
+import com.financialledge.transaction.entity.Transaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AccountBalanceCheckpointRepository extends JpaRepository<AccountBalanceCheckpoint, Long> {
+
+    Optional<AccountBalanceCheckpoint> findFirstByAccountIdAndCheckpointDateLessThanEqualOrderByCheckpointDateDesc(
+            Long accountId, LocalDate date);
+
+    Optional<AccountBalanceCheckpoint> findFirstByAccountIdOrderByCheckpointDateDesc(Long accountId);
+
+    // date 이후(포함) 체크포인트에 거래/보정 증감 반영
+    @Modifying
+    @Query("UPDATE AccountBalanceCheckpoint c SET c.balance = c.balance + :delta, c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.accountId = :accountId AND c.checkpointDate >= :date")
+    int applyDelta(Long accountId, LocalDate date, BigDecimal delta);
+
+    @Modifying
+    @Query("DELETE FROM AccountBalanceCheckpoint c WHERE c.accountId = :accountId")
+    int deleteByAccountId(Long accountId);
+
+    // (after, until] 구간에서 출금 계좌 쪽 증감: INCOME 은 +, EXPENSE/TRANSFER 는 -
+    @Query("SELECT COALESCE(SUM(CASE WHEN t.transactionType = :income THEN t.amount ELSE -t.amount END), 0) " +
+            "FROM Transaction t WHERE t.account.id = :accountId " +
+            "AND t.transactionDate > :after AND t.transactionDate <= :until")
+    BigDecimal sumAccountChange(Long accountId, Transaction.TransactionType income, LocalDate after, LocalDate until);
+
+    // (after, until] 구간에서 이체 입금 계좌 쪽 증감
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
+            "WHERE t.targetAccount.id = :accountId AND t.transactionType = :transfer " +
+            "AND t.transactionDate > :after AND t.transactionDate <= :until")
+    BigDecimal sumTransferIn(Long accountId, Transaction.TransactionType transfer, LocalDate after, LocalDate until);
+
+    @Query("SELECT new com.financialledge.account.dto.DailyBalanceChange(t.transactionDate, " +
+            "SUM(CASE WHEN t.transactionType = :income THEN t.amount ELSE -t.amount END)) " +
+            "FROM Transaction t WHERE t.account.id = :accountId " +
+            "AND t.transactionDate > :after AND t.transactionDate <= :until " +
+            "GROUP BY t.transactionDate")
+    List<DailyBalanceChange> sumAccountChangeByDate(Long accountId, Transaction.TransactionType income,
+                                                    LocalDate after, LocalDate until);
+
+    @Query("SELECT new com.financialledge.account.dto.DailyBalanceChange(t.transactionDate, SUM(t.amount)) " +
+            "FROM Transaction t WHERE t.targetAccount.id = :accountId AND t.transactionType = :transfer " +
+            "AND t.transactionDate > :after AND t.transactionDate <= :until " +
+            "GROUP BY t.transactionDate")
+    List<DailyBalanceChange> sumTransferInByDate(Long accountId, Transaction.TransactionType transfer,
+                                                 LocalDate after, LocalDate until);
+
+    @Query("SELECT MIN(t.transactionDate) FROM Transaction t WHERE t.account.id = :accountId OR t.targetAccount.id = :accountId")
+    LocalDate findFirstTransactionDate(Long accountId);
+}
@@ -1,16 +1,66 @@
 package com.financialledge.account.repository;
 
 import com.financialledge.account.entity.Account;
+import com.financialledge.common.cache.ReferenceCacheRegions;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
+
+    String BALANCE_SPACE = "account_balances";
+
+    // 목록 조회는 쿼리 캐시(id 목록) + 엔티티 캐시로 처리. 잔액 증감은 해당 계좌 엔티티만 비운다
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheRegions.ACCOUNT_QUERIES)
+    })
+    @Override
+    List<Account> findAll();
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheRegions.ACCOUNT_QUERIES)
+    })
     List<Account> findByAccountType(Account.AccountType accountType);
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheRegions.ACCOUNT_QUERIES)
+    })
     List<Account> findByIsActiveTrue();
+    
+    List<Account> findByNameIn(Collection<String> names);
+
+    // 체크포인트 생성 중 같은 계좌의 거래 쓰기(잔액 UPDATE)를 잠시 막는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findByIdForUpdate(Long id);
+
+    // 읽고 쓰지 않고 한 문장으로 증감하여 동시 거래가 서로 덮어쓰지 않도록 함.
+    // JPQL 벌크 UPDATE 나 accounts 를 선언한 네이티브 쓰기는 Account 리전과 목록 쿼리 캐시 전체를 비우므로,
+    // 엔티티에 매핑되지 않은 공간을 선언하고 호출하는 쪽에서 해당 계좌만 비운다 (ReferenceCache.evictAccount).
+    // 잔액은 목록 조회 조건이 아니어서 목록 쿼리 캐시(id 목록)는 그대로 둔다
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = BALANCE_SPACE))
+    @Query(value = "UPDATE accounts SET balance = balance + :delta, updated_at = :now WHERE id = :id",
+            nativeQuery = true)
+    int addToBalance(Long id, BigDecimal delta, LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Account a SET a.balance = :balance, a.updatedAt = :now WHERE a.id = :id")
+    int setBalance(Long id, BigDecimal balance, LocalDateTime now);
 }
@@ -0,0 +1,152 @@
+package com.financialledge.account.service;
+
+import com.financialledge.account.dto.AccountBalanceResponse;
+import com.financialledge.account.dto.DailyBalanceChange;
+import com.financialledge.account.entity.Account;
+import com.financialledge.account.entity.AccountBalanceCheckpoint;
+import com.financialledge.account.repository.AccountBalanceAdjustmentRepository;
+import com.financialledge.account.repository.AccountBalanceCheckpointRepository;
+import com.financialledge.account.repository.AccountRepository;
+import com.financialledge.transaction.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 월말 잔액 체크포인트 생성과 과거 시점 잔액 조회.
+ * 시점 잔액 = 시점 이전 가장 가까운 체크포인트 잔액 + 그 뒤 시점까지(최대 한 달 남짓)의 거래/보정 증감.
+ * 현재 잔액에서 거꾸로 빼지 않으므로 잔액 보정은 보정일 이후 시점에만 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceCheckpointService {
+
+    private final AccountBalanceCheckpointRepository checkpointRepository;
+    private final AccountBalanceAdjustmentRepository adjustmentRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 스냅샷을 고정하여 체크포인트와 구간 합계가 같은 시점의 값이 되도록 함
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public AccountBalanceResponse getBalanceAsOf(Long accountId, LocalDate asOf) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new RuntimeException("Account not found with id: " + accountId));
+
+        // 개설 체크포인트는 계좌 생성/마이그레이션에서 항상 만들어진다
+        AccountBalanceCheckpoint checkpoint = checkpointRepository
+                .findFirstByAccountIdAndCheckpointDateLessThanEqualOrderByCheckpointDateDesc(accountId, asOf)
+                .orElseThrow(() -> new RuntimeException("Opening balance checkpoint not found for account: " + accountId));
+        LocalDate from = checkpoint.getCheckpointDate();
+
+        return AccountBalanceResponse.builder()
+                .accountId(accountId)
+                .asOf(asOf)
+                .balance(checkpoint.getBalance()
+                        .add(sumChange(accountId, from, asOf))
+                        .add(adjustmentRepository.sumAmount(accountId, from, asOf)))
+                .currency(account.getCurrency())
+                .checkpointDate(from.equals(AccountBalanceCheckpoint.OPENING_DATE) ? null : from)
+                .build();
+    }
+
+    @Scheduled(cron = "${account.balance-checkpoints.cron:0 30 3 * * *}")
+    public void buildAll() {
+        LocalDate today = LocalDate.now();
+        int created = 0;
+        for (Account account : accountRepository.findAll()) {
+            created += buildForAccount(account.getId(), today);
+        }
+        if (created > 0) {
+            log.info("Created {} account balance checkpoints", created);
+        }
+    }
+
+    /**
+     * 지난달 말까지 빠진 월말 체크포인트를 만든다. 계좌 행을 잠가 그동안의 거래 쓰기가
+     * 합산에서 빠지거나 두 번 반영되지 않도록 한다.
+     */
+    public int buildForAccount(Long accountId, LocalDate today) {
+        LocalDate lastMonthEnd = today.withDayOfMonth(1).minusDays(1);
+        Integer created = transactionTemplate.execute(status -> {
+            if (accountRepository.findByIdForUpdate(accountId).isEmpty()) {
+                return 0;
+            }
+
+            AccountBalanceCheckpoint latest = checkpointRepository
+                    .findFirstByAccountIdOrderByCheckpointDateDesc(accountId)
+                    .orElse(null);
+            if (latest == null) {
+                return 0;
+            }
+            LocalDate after = latest.getCheckpointDate();
+            BigDecimal running = latest.getBalance();
+            if (after.equals(AccountBalanceCheckpoint.OPENING_DATE)) {
+                // 개설 체크포인트만 있으면 첫 거래/보정이 있는 달부터 만든다
+                LocalDate first = earliest(checkpointRepository.findFirstTransactionDate(accountId),
+                        adjustmentRepository.findFirstAdjustmentDate(accountId));
+                if (first == null) {
+                    return 0;
+                }
+                after = first.withDayOfMonth(1).minusDays(1);
+            }
+            if (!after.isBefore(lastMonthEnd)) {
+                return 0;
+            }
+
+            TreeMap<LocalDate, BigDecimal> changes = new TreeMap<>();
+            merge(changes, checkpointRepository.sumAccountChangeByDate(
+                    accountId, Transaction.TransactionType.INCOME, after, lastMonthEnd));
+            merge(changes, checkpointRepository.sumTransferInByDate(
+                    accountId, Transaction.TransactionType.TRANSFER, after, lastMonthEnd));
+            merge(changes, adjustmentRepository.sumAmountByDate(accountId, after, lastMonthEnd));
+
+            List<AccountBalanceCheckpoint> checkpoints = new ArrayList<>();
+            LocalDate monthEnd = after.plusDays(1).with(TemporalAdjusters.lastDayOfMonth());
+            while (!monthEnd.isAfter(lastMonthEnd)) {
+                for (BigDecimal change : changes.subMap(after, false, monthEnd, true).values()) {
+                    running = running.add(change);
+                }
+                checkpoints.add(AccountBalanceCheckpoint.builder()
+                        .accountId(accountId)
+                        .checkpointDate(monthEnd)
+                        .balance(running)
+                        .build());
+                after = monthEnd;
+                monthEnd = monthEnd.plusDays(1).with(TemporalAdjusters.lastDayOfMonth());
+            }
+            checkpointRepository.saveAll(checkpoints);
+            return checkpoints.size();
+        });
+        return created == null ? 0 : created;
+    }
+
+    // (after, until] 구간에서 거래가 계좌 잔액에 준 증감
+    private BigDecimal sumChange(Long accountId, LocalDate after, LocalDate until) {
+        return checkpointRepository.sumAccountChange(accountId, Transaction.TransactionType.INCOME, after, until)
+                .add(checkpointRepository.sumTransferIn(accountId, Transaction.TransactionType.TRANSFER, after, until));
+    }
+
+    private LocalDate earliest(LocalDate a, LocalDate b) {
+        if (a == null || b == null) {
+            return a == null ? b : a;
+        }
+        return a.isBefore(b) ? a : b;
+    }
+
+    private void merge(Map<LocalDate, BigDecimal> changes, List<DailyBalanceChange> rows) {
+        rows.forEach(row -> changes.merge(row.getDate(), row.getAmount(), BigDecimal::add));
+    }
+}
@@ -0,0 +1,105 @@
+package com.financialledge.account.service;
+
+import com.financialledge.account.repository.AccountBalanceCheckpointRepository;
+import com.financialledge.account.repository.AccountRepository;
+import com.financialledge.common.cache.ReferenceCache;
+import com.financialledge.transaction.entity.Transaction;
+import com.financialledge.transaction.event.TransactionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 거래 쓰기에 따른 계좌 잔액과 월말 체크포인트 증감.
+ * 잔액은 원자적 UPDATE 로 반영하고, 커밋 직전에 실행하여 계좌 행 잠금을 최대한 짧게 유지한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceCheckpointRepository checkpointRepository;
+    private final ReferenceCache referenceCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        Map<AccountMonth, BigDecimal> deltas = new HashMap<>();
+        if (event.before() != null) {
+            TransactionChangedEvent.Snapshot before = event.before();
+            collectDeltas(deltas, before.transactionType(), before.amount().negate(), before.transactionDate(),
+                    before.accountId(), before.targetAccountId());
+        }
+        if (event.after() != null) {
+            TransactionChangedEvent.Snapshot after = event.after();
+            collectDeltas(deltas, after.transactionType(), after.amount(), after.transactionDate(),
+                    after.accountId(), after.targetAccountId());
+        }
+        applyDeltas(deltas);
+    }
+
+    /**
+     * 계좌별 잔액을 먼저 갱신(행 잠금)한 뒤 해당 월 이후의 체크포인트를 갱신한다.
+     * 교착을 피하기 위해 항상 계좌 id 순서로 갱신한다.
+     * 트랜잭션을 열지 않으므로 거래를 쓴 트랜잭션 안에서 호출해야 한다 (커밋 직전 리스너, 가져오기 배치).
+     */
+    public void applyDeltas(Map<AccountMonth, BigDecimal> deltas) {
+        Map<Long, BigDecimal> balanceDeltas = new TreeMap<>();
+        deltas.forEach((key, delta) -> {
+            if (delta.signum() != 0) {
+                balanceDeltas.merge(key.accountId(), delta, BigDecimal::add);
+            }
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        // 네이티브 UPDATE 는 Account 변경을 자동 flush 하지 않으므로, 수정 중인 계좌가 나중에 이전 잔액으로 덮어쓰지 않도록 먼저 내보낸다
+        if (!balanceDeltas.isEmpty()) {
+            accountRepository.flush();
+        }
+        // 날짜만 바뀐 수정은 잔액 증감이 0 이어도 체크포인트 갱신 전에 계좌 행을 잠근다
+        balanceDeltas.forEach((accountId, delta) -> {
+            if (accountRepository.addToBalance(accountId, delta, now) == 0) {
+                throw new RuntimeException("Account not found with id: " + accountId);
+            }
+            referenceCache.evictAccount(accountId);
+        });
+        deltas.forEach((key, delta) -> {
+            if (delta.signum() != 0) {
+                checkpointRepository.applyDelta(key.accountId(), key.monthEnd(), delta);
+            }
+        });
+    }
+
+    // 거래 한 건이 계좌별 잔액에 주는 영향. 되돌릴 때는 amount 에 음수를 넘긴다.
+    public static void collectDeltas(Map<AccountMonth, BigDecimal> deltas, Transaction.TransactionType type,
+                                     BigDecimal amount, LocalDate date, Long accountId, Long targetAccountId) {
+        switch (type) {
+            case INCOME -> deltas.merge(AccountMonth.of(accountId, date), amount, BigDecimal::add);
+            case EXPENSE -> deltas.merge(AccountMonth.of(accountId, date), amount.negate(), BigDecimal::add);
+            case TRANSFER -> {
+                deltas.merge(AccountMonth.of(accountId, date), amount.negate(), BigDecimal::add);
+                if (targetAccountId != null) {
+                    deltas.merge(AccountMonth.of(targetAccountId, date), amount, BigDecimal::add);
+                }
+            }
+        }
+    }
+
+    /**
+     * 체크포인트는 월말 단위이므로 같은 달의 거래는 같은 체크포인트 범위에 영향을 준다.
+     */
+    public record AccountMonth(Long accountId, LocalDate monthEnd) {
+
+        public static AccountMonth of(Long accountId, LocalDate date) {
+            return new AccountMonth(accountId, date.with(TemporalAdjusters.lastDayOfMonth()));
+        }
+    }
+}
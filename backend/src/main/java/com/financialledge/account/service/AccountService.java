@@ -1,11 +1,23 @@
 package com.financialledge.account.service;
 
+import com.financialledge.account.dto.AccountResponse;
 import com.financialledge.account.entity.Account;
+import com.financialledge.account.entity.AccountBalanceAdjustment;
+import com.financialledge.account.entity.AccountBalanceCheckpoint;
+import com.financialledge.account.repository.AccountBalanceAdjustmentRepository;
+import com.financialledge.account.repository.AccountBalanceCheckpointRepository;
 import com.financialledge.account.repository.AccountRepository;
+import com.financialledge.budget.service.BudgetProgressCache;
+import com.financialledge.common.cache.ReferenceCache;
+import com.financialledge.sync.entity.SyncTombstone;
+import com.financialledge.sync.service.SyncTombstoneService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -14,51 +26,94 @@ import java.util.List;
 public class AccountService {
 
     private final AccountRepository accountRepository;
+    private final AccountBalanceCheckpointRepository accountBalanceCheckpointRepository;
+    private final AccountBalanceAdjustmentRepository accountBalanceAdjustmentRepository;
+    private final BudgetProgressCache budgetProgressCache;
+    private final ReferenceCache referenceCache;
+    private final SyncTombstoneService syncTombstoneService;
 
-    public List<Account> getAllAccounts() {
-        return accountRepository.findAll();
+    // 계좌는 연관 관계가 없고 2차 캐시에서 읽으므로 엔티티를 그대로 응답 DTO 로 옮긴다
+    public List<AccountResponse> getAllAccounts() {
+        return toResponses(accountRepository.findAll());
     }
 
-    public Account getAccountById(Long id) {
-        return accountRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Account not found with id: " + id));
+    public AccountResponse getAccountById(Long id) {
+        return AccountResponse.from(findAccount(id));
     }
 
-    public List<Account> getAccountsByType(Account.AccountType accountType) {
-        return accountRepository.findByAccountType(accountType);
+    public List<AccountResponse> getAccountsByType(Account.AccountType accountType) {
+        return toResponses(accountRepository.findByAccountType(accountType));
     }
 
-    public List<Account> getActiveAccounts() {
-        return accountRepository.findByIsActiveTrue();
+    public List<AccountResponse> getActiveAccounts() {
+        return toResponses(accountRepository.findByIsActiveTrue());
     }
 
     @Transactional
-    public Account createAccount(Account account) {
-        return accountRepository.save(account);
+    public AccountResponse createAccount(Account account) {
+        Account saved = accountRepository.save(account);
+        // 과거 시점 잔액은 개설 잔액에서 앞으로 더해 계산한다
+        accountBalanceCheckpointRepository.save(AccountBalanceCheckpoint.builder()
+                .accountId(saved.getId())
+                .checkpointDate(AccountBalanceCheckpoint.OPENING_DATE)
+                .balance(saved.getBalance() != null ? saved.getBalance() : BigDecimal.ZERO)
+                .build());
+        referenceCache.evictAccounts();
+        return AccountResponse.from(saved);
     }
 
     @Transactional
-    public Account updateAccount(Long id, Account account) {
-        Account existingAccount = getAccountById(id);
+    public AccountResponse updateAccount(Long id, Account account) {
+        Account existingAccount = findAccount(id);
         existingAccount.setName(account.getName());
         existingAccount.setAccountType(account.getAccountType());
-        existingAccount.setBalance(account.getBalance());
         existingAccount.setCurrency(account.getCurrency());
         existingAccount.setDescription(account.getDescription());
         existingAccount.setIsActive(account.getIsActive());
-        return accountRepository.save(existingAccount);
+        budgetProgressCache.evictAll();
+        referenceCache.evictAccounts();
+        return AccountResponse.from(accountRepository.saveAndFlush(existingAccount));
     }
 
     @Transactional
     public void deleteAccount(Long id) {
-        Account account = getAccountById(id);
+        Account account = findAccount(id);
+        accountBalanceCheckpointRepository.deleteByAccountId(id);
+        accountBalanceAdjustmentRepository.deleteByAccountId(id);
         accountRepository.delete(account);
+        syncTombstoneService.record(SyncTombstone.EntityType.ACCOUNT, id, null);
+        budgetProgressCache.evictAll();
+        referenceCache.evictAccounts();
     }
 
     @Transactional
-    public Account updateBalance(Long id, java.math.BigDecimal newBalance) {
-        Account account = getAccountById(id);
-        account.setBalance(newBalance);
-        return accountRepository.save(account);
+    public AccountResponse updateBalance(Long id, BigDecimal newBalance) {
+        // 잔액 보정. 행을 잠가 동시 거래 반영과 섞이지 않게 이전 잔액을 읽고 잔액만 갱신
+        Account account = accountRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new RuntimeException("Account not found with id: " + id));
+        BigDecimal delta = newBalance.subtract(account.getBalance());
+        accountRepository.setBalance(id, newBalance, LocalDateTime.now());
+
+        // 보정 차이는 오늘부터 반영되도록 기록하여 과거 시점 잔액이 함께 움직이지 않게 함
+        if (delta.signum() != 0) {
+            LocalDate today = LocalDate.now();
+            accountBalanceAdjustmentRepository.save(AccountBalanceAdjustment.builder()
+                    .accountId(id)
+                    .adjustmentDate(today)
+                    .amount(delta)
+                    .build());
+            accountBalanceCheckpointRepository.applyDelta(id, today, delta);
+        }
+        referenceCache.evictAccounts();
+        return getAccountById(id);
+    }
+
+    private Account findAccount(Long id) {
+        return accountRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Account not found with id: " + id));
+    }
+
+    private List<AccountResponse> toResponses(List<Account> accounts) {
+        return accounts.stream().map(AccountResponse::from).toList();
     }
 }
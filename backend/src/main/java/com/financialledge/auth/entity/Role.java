@@ -1,11 +1,14 @@
 package com.financialledge.auth.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.financialledge.common.cache.ReferenceCacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -15,6 +18,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheRegions.ROLES)
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Role {
 
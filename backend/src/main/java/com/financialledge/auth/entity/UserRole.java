@@ -10,7 +10,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_roles")
+@Table(name = "user_roles", indexes = @Index(name = "idx_user_roles_user", columnList = "user_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
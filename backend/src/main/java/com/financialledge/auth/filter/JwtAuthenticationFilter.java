@@ -1,5 +1,8 @@
 package com.financialledge.auth.filter;
 
+import com.financialledge.auth.security.AuthenticatedUser;
+import com.financialledge.auth.security.UserIdCache;
+import com.financialledge.auth.security.VerifiedToken;
 import com.financialledge.auth.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,6 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,13 +19,15 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final UserIdCache userIdCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -29,11 +35,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt, jwtUtil.getUsernameFromToken(jwt))) {
-                String username = jwtUtil.getUsernameFromToken(jwt);
+            VerifiedToken token = StringUtils.hasText(jwt) ? jwtUtil.verify(jwt) : null;
+
+            if (token != null) {
+                Long userId = token.getUserId();
+                if (userId == null) {
+                    // uid 클레임이 없는 기존 토큰
+                    userId = userIdCache.getUserId(token.getUsername());
+                }
+                AuthenticatedUser principal = new AuthenticatedUser(userId, token.getUsername(), token.getRoles());
 
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        username, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                        principal, null, toAuthorities(token.getRoles())
                 );
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -46,6 +59,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private List<GrantedAuthority> toAuthorities(List<String> roles) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+        for (String role : roles) {
+            if (!"USER".equals(role)) {
+                authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+            }
+        }
+        return authorities;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
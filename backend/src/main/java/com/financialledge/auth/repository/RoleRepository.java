@@ -1,12 +1,28 @@
 package com.financialledge.auth.repository;
 
 import com.financialledge.auth.entity.Role;
+import com.financialledge.common.cache.ReferenceCacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheRegions.ROLE_QUERIES)
+    })
     Optional<Role> findByName(String name);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheRegions.ROLE_QUERIES)
+    })
+    @Override
+    List<Role> findAllById(Iterable<Long> ids);
 }
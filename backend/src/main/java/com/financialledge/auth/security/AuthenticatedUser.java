@@ -0,0 +1,30 @@
+package com.financialledge.auth.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * JWT 인증 후 SecurityContext 에 저장되는 principal.
+ * 사용자 id 를 담고 있어 요청마다 users 테이블을 조회할 필요가 없다.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser implements Principal {
+
+    private final Long id;
+    private final String username;
+    private final List<String> roles;
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
@@ -0,0 +1,17 @@
+package com.financialledge.auth.security;
+
+import lombok.Getter;
+
+/**
+ * 같은 계정/IP 로 로그인 실패가 이어져 다음 시도까지 기다려야 함 (429).
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super("Too many failed login attempts, retry after " + retryAfterSeconds + "s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.financialledge.auth.security;
+
+/**
+ * 비밀번호 해시 작업 대기열이 가득 참 (503). 요청 스레드를 붙잡지 않고 바로 거절한다.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("Password hashing queue is full");
+    }
+}
@@ -0,0 +1,36 @@
+package com.financialledge.auth.security;
+
+import com.financialledge.auth.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * uid 클레임이 없는 기존 토큰용 username → id 캐시 (크기 제한이 있는 Caffeine 캐시, 잠금 없는 조회).
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIdCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final UserRepository userRepository;
+
+    private final Cache<String, Long> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .build();
+
+    // DB 조회는 캐시의 compute 밖에서 한다 (같은 username 을 동시에 처음 조회하면 둘 다 읽을 수 있음)
+    public Long getUserId(String username) {
+        Long userId = cache.getIfPresent(username);
+        if (userId != null) {
+            return userId;
+        }
+        userId = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"))
+                .getId();
+        cache.put(username, userId);
+        return userId;
+    }
+}
@@ -0,0 +1,24 @@
+package com.financialledge.auth.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 서명과 만료가 검증된 JWT 의 클레임. 한 번의 파싱으로 필요한 값을 모두 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final String username;
+    // 기존 토큰에는 uid 클레임이 없으므로 null 일 수 있다
+    private final Long userId;
+    private final List<String> roles;
+    private final long expiresAtMillis;
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
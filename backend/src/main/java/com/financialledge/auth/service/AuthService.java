@@ -9,14 +9,18 @@ import com.financialledge.auth.entity.UserRole;
 import com.financialledge.auth.repository.RoleRepository;
 import com.financialledge.auth.repository.UserRepository;
 import com.financialledge.auth.repository.UserRoleRepository;
+import com.financialledge.auth.security.LoginThrottledException;
+import com.financialledge.auth.security.PasswordHashingBusyException;
 import com.financialledge.auth.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -24,10 +28,11 @@ public class AuthService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final UserRoleRepository userRoleRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginAttemptService loginAttemptService;
+    private final TransactionTemplate transactionTemplate;
     private final JwtUtil jwtUtil;
 
-    @Transactional
     public AuthResponse register(AuthRequest request) {
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new RuntimeException("Username already exists");
@@ -36,10 +41,16 @@ public class AuthService {
             throw new RuntimeException("Email already exists");
         }
 
+        // 해시는 트랜잭션 밖에서: DB 커넥션을 잡은 채로 해시를 계산하지 않는다
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
+        return transactionTemplate.execute(status -> createUser(request, encodedPassword));
+    }
+
+    private AuthResponse createUser(AuthRequest request, String encodedPassword) {
         User user = User.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .build();
 
         user = userRepository.save(user);
@@ -60,7 +71,7 @@ public class AuthService {
                 .build();
         userRoleRepository.save(userRoleEntity);
 
-        String token = jwtUtil.generateToken(user.getUsername());
+        String token = jwtUtil.generateToken(user.getId(), user.getUsername(), List.of(userRole.getName()));
 
         return AuthResponse.builder()
                 .token(token)
@@ -69,19 +80,27 @@ public class AuthService {
                 .build();
     }
 
-    public AuthResponse login(LoginRequest request) {
-        Optional<User> userOpt = userRepository.findByUsername(request.getUsernameOrEmail());
-        if (userOpt.isEmpty()) {
-            userOpt = userRepository.findByEmail(request.getUsernameOrEmail());
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        String account = request.getUsernameOrEmail();
+        long retryAfter = loginAttemptService.retryAfterSeconds(account, clientIp);
+        if (retryAfter > 0) {
+            throw new LoginThrottledException(retryAfter);
         }
 
-        User user = userOpt.orElseThrow(() -> new RuntimeException("Invalid username/email or password"));
+        Optional<User> userOpt = userRepository.findByUsername(account);
+        if (userOpt.isEmpty()) {
+            userOpt = userRepository.findByEmail(account);
+        }
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        User user = userOpt.orElse(null);
+        if (user == null || !passwordHashingService.matches(request.getPassword(), user.getPassword())) {
+            loginAttemptService.recordFailure(account, clientIp);
             throw new RuntimeException("Invalid username/email or password");
         }
+        loginAttemptService.recordSuccess(account);
+        rehashIfNeeded(user, request.getPassword());
 
-        String token = jwtUtil.generateToken(user.getUsername());
+        String token = jwtUtil.generateToken(user.getId(), user.getUsername(), getRoleNames(user.getId()));
 
         return AuthResponse.builder()
                 .token(token)
@@ -89,4 +108,25 @@ public class AuthService {
                 .email(user.getEmail())
                 .build();
     }
+
+    // 인코더 설정(auth.password.*)이 바뀌었으면 평문을 알고 있는 지금 새 형식으로 다시 저장
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHashingService.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            userRepository.updatePassword(user.getId(), passwordHashingService.encode(rawPassword));
+        } catch (PasswordHashingBusyException e) {
+            log.debug("Skipping password rehash for user {}: hashing queue is full", user.getId());
+        }
+    }
+
+    private List<String> getRoleNames(Long userId) {
+        List<Long> roleIds = userRoleRepository.findByUserId(userId).stream()
+                .map(UserRole::getRoleId)
+                .toList();
+        return roleRepository.findAllById(roleIds).stream()
+                .map(Role::getName)
+                .toList();
+    }
 }
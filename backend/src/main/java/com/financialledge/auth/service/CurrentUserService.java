@@ -0,0 +1,23 @@
+package com.financialledge.auth.service;
+
+import com.financialledge.auth.security.AuthenticatedUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CurrentUserService {
+
+    public AuthenticatedUser getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            throw new RuntimeException("User not authenticated");
+        }
+        return user;
+    }
+
+    public Long getCurrentUserId() {
+        return getCurrentUser().getId();
+    }
+}
@@ -0,0 +1,103 @@
+package com.financialledge.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 실패 누적에 따른 점진적 지연 (계정별, IP 별).
+ * 무료 실패 횟수를 넘으면 base-delay 부터 실패할 때마다 두 배씩(max-delay 까지) 다음 시도를 막는다.
+ * 막혀 있는 동안에는 비밀번호 해시를 계산하지 않고 바로 429 로 돌려보낸다.
+ * 계정 키는 입력된 username/email 그대로(소문자)라 존재하지 않는 계정도 똑같이 취급된다.
+ * 기록은 마지막 실패 후 reset-after 가 지나면 사라진다.
+ */
+@Service
+public class LoginAttemptService {
+
+    private record Failures(int count, long lastFailureNanos) {
+    }
+
+    private final int accountFreeAttempts;
+    private final int ipFreeAttempts;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final Cache<String, Failures> accountFailures;
+    private final Cache<String, Failures> ipFailures;
+    private final Counter throttled;
+
+    public LoginAttemptService(MeterRegistry meterRegistry,
+                               @Value("${auth.login-throttle.free-attempts:3}") int accountFreeAttempts,
+                               @Value("${auth.login-throttle.ip-free-attempts:20}") int ipFreeAttempts,
+                               @Value("${auth.login-throttle.base-delay:1s}") Duration baseDelay,
+                               @Value("${auth.login-throttle.max-delay:5m}") Duration maxDelay,
+                               @Value("${auth.login-throttle.reset-after:15m}") Duration resetAfter,
+                               @Value("${auth.login-throttle.max-keys:100000}") long maxKeys) {
+        this.accountFreeAttempts = accountFreeAttempts;
+        this.ipFreeAttempts = ipFreeAttempts;
+        this.baseDelayNanos = baseDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.accountFailures = newCache(resetAfter, maxKeys);
+        this.ipFailures = newCache(resetAfter, maxKeys);
+        this.throttled = Counter.builder("auth.login.throttled")
+                .description("Login attempts rejected before password hashing")
+                .register(meterRegistry);
+    }
+
+    private static Cache<String, Failures> newCache(Duration resetAfter, long maxKeys) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(resetAfter)
+                .build();
+    }
+
+    /**
+     * 지금 시도해도 되면 0, 아니면 기다려야 하는 초.
+     */
+    public long retryAfterSeconds(String account, String ip) {
+        long now = System.nanoTime();
+        long waitNanos = Math.max(
+                remainingNanos(accountFailures.getIfPresent(accountKey(account)), accountFreeAttempts, now),
+                remainingNanos(ipFailures.getIfPresent(ip), ipFreeAttempts, now));
+        if (waitNanos <= 0) {
+            return 0;
+        }
+        throttled.increment();
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    public void recordFailure(String account, String ip) {
+        long now = System.nanoTime();
+        increment(accountFailures, accountKey(account), now);
+        increment(ipFailures, ip, now);
+    }
+
+    // IP 기록은 남긴다: 한 IP 에서 여러 계정을 번갈아 찔러보는 경우
+    public void recordSuccess(String account) {
+        accountFailures.invalidate(accountKey(account));
+    }
+
+    private static void increment(Cache<String, Failures> cache, String key, long now) {
+        cache.asMap().merge(key, new Failures(1, now),
+                (old, ignored) -> new Failures(old.count() + 1, now));
+    }
+
+    private long remainingNanos(Failures failures, int freeAttempts, long now) {
+        if (failures == null || failures.count() < freeAttempts) {
+            return 0;
+        }
+        int doublings = Math.min(failures.count() - freeAttempts, 30);
+        long delay = baseDelayNanos > maxDelayNanos >> doublings ? maxDelayNanos : baseDelayNanos << doublings;
+        return failures.lastFailureNanos() + delay - now;
+    }
+
+    private static String accountKey(String account) {
+        return account.trim().toLowerCase(Locale.ROOT);
+    }
+}
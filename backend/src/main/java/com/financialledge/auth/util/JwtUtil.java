@@ -1,27 +1,73 @@
 package com.financialledge.auth.util;
 
+import com.financialledge.auth.security.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret:your-secret-key-should-be-at-least-256-bits-long-for-hs256-algorithm}")
-    private String secret;
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLES = "roles";
 
-    @Value("${jwt.expiration:86400000}") // 24 hours default
-    private Long expiration;
+    private static final int VERIFIED_CACHE_MAX_ENTRIES = 4_096;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    // 서명 키와 파서는 기동 시 한 번만 생성한다 (불변, 스레드 안전)
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long expiration;
+
+    // 최근 검증된 토큰의 SHA-256 → 클레임. 토큰 원문은 힙(덤프)에 키로 남기지 않는다.
+    // 항목은 토큰의 exp 에 만료된다 (잠금 없는 조회)
+    private final Cache<ByteBuffer, VerifiedToken> verifiedCache = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_CACHE_MAX_ENTRIES)
+            .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(ByteBuffer digest, VerifiedToken verified, long currentTime) {
+                    long remainingMillis = verified.getExpiresAtMillis() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                }
+
+                @Override
+                public long expireAfterUpdate(ByteBuffer digest, VerifiedToken verified, long currentTime,
+                                              long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(ByteBuffer digest, VerifiedToken verified, long currentTime,
+                                            long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    public JwtUtil(
+            @Value("${jwt.secret:your-secret-key-should-be-at-least-256-bits-long-for-hs256-algorithm}") String secret,
+            @Value("${jwt.expiration:86400000}") long expiration) { // 24 hours default
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.expiration = expiration;
     }
 
     public String generateToken(String username) {
@@ -32,14 +78,77 @@ public class JwtUtil {
                 .subject(username)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
+                .compact();
+    }
+
+    public String generateToken(Long userId, String username, Collection<String> roles) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + expiration);
+
+        return Jwts.builder()
+                .subject(username)
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_ROLES, List.copyOf(roles))
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱하여 서명/만료를 검증하고 클레임을 반환한다.
+     * 유효하지 않으면 null 을 반환한다.
+     */
+    public VerifiedToken verify(String token) {
+        ByteBuffer digest = digest(token);
+        VerifiedToken cached = verifiedCache.getIfPresent(digest);
+        if (cached != null) {
+            // 캐시 만료(nanoTime 기준)와 exp(벽시계)가 조금 어긋날 수 있어 exp 를 한 번 더 확인한다
+            return cached.isExpired(System.currentTimeMillis()) ? null : cached;
+        }
+
+        Claims claims;
+        try {
+            claims = getAllClaimsFromToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            return null;
+        }
+
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                claims.get(CLAIM_USER_ID, Long.class),
+                getRoles(claims),
+                claims.getExpiration().getTime());
+        verifiedCache.put(digest, verified);
+        return verified;
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JDK 가 SHA-256 을 제공한다
+            throw new IllegalStateException(e);
+        }
+    }
+
     public String getUsernameFromToken(String token) {
         return getClaimFromToken(token, Claims::getSubject);
     }
 
+    // 기존 토큰에는 uid 클레임이 없으므로 null 을 반환할 수 있다
+    public Long getUserIdFromToken(String token) {
+        return getClaimFromToken(token, claims -> claims.get(CLAIM_USER_ID, Long.class));
+    }
+
+    public List<String> getRolesFromToken(String token) {
+        return getClaimFromToken(token, this::getRoles);
+    }
+
     public Date getExpirationDateFromToken(String token) {
         return getClaimFromToken(token, Claims::getExpiration);
     }
@@ -50,11 +159,13 @@ public class JwtUtil {
     }
 
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> getRoles(Claims claims) {
+        List<String> roles = claims.get(CLAIM_ROLES, List.class);
+        return roles == null ? Collections.emptyList() : List.copyOf(roles);
     }
 
     public Boolean isTokenExpired(String token) {
@@ -63,7 +174,7 @@ public class JwtUtil {
     }
 
     public Boolean validateToken(String token, String username) {
-        final String tokenUsername = getUsernameFromToken(token);
-        return (tokenUsername.equals(username) && !isTokenExpired(token));
+        VerifiedToken verified = verify(token);
+        return verified != null && verified.getUsername().equals(username);
     }
 }
@@ -0,0 +1,11 @@
+package com.financialledge.budget.alert;
+
+import com.financialledge.budget.dto.BudgetAlert;
+
+/**
+ * 예산 임계치 알림 전달 대상. 등록된 모든 빈에 전달된다.
+ */
+public interface BudgetAlertSink {
+
+    void send(BudgetAlert alert);
+}
@@ -0,0 +1,17 @@
+package com.financialledge.budget.alert;
+
+import com.financialledge.budget.dto.BudgetAlert;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class LoggingBudgetAlertSink implements BudgetAlertSink {
+
+    @Override
+    public void send(BudgetAlert alert) {
+        log.info("Budget {} of user {} reached {}% ({} / {}) for {} ~ {}",
+                alert.getBudgetId(), alert.getUserId(), alert.getThreshold(),
+                alert.getSpent(), alert.getAmount(), alert.getPeriodStart(), alert.getPeriodEnd());
+    }
+}
@@ -0,0 +1,28 @@
+package com.financialledge.budget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetAlert {
+    private Long userId;
+    private Long budgetId;
+    private Long categoryId;
+    private Long accountId;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private BigDecimal amount;
+    private BigDecimal spent;
+    // 넘어선 임계치(%)
+    private int threshold;
+    private LocalDateTime occurredAt;
+}
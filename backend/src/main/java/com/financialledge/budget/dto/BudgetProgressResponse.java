@@ -0,0 +1,30 @@
+package com.financialledge.budget.dto;
+
+import com.financialledge.budget.entity.Budget;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetProgressResponse {
+    private Long budgetId;
+    private Long categoryId;
+    private String categoryName;
+    private Long accountId;
+    private String accountName;
+    private Budget.PeriodType periodType;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private BigDecimal amount;
+    private BigDecimal spent;
+    private BigDecimal remaining;
+    // 사용률(%) - 소수 둘째 자리
+    private BigDecimal usageRate;
+}
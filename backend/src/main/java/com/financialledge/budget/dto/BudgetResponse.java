@@ -0,0 +1,37 @@
+package com.financialledge.budget.dto;
+
+import com.financialledge.account.dto.AccountRef;
+import com.financialledge.budget.entity.Budget;
+import com.financialledge.category.dto.CategoryRef;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetResponse {
+    private Long id;
+    private CategoryRef category;
+    private AccountRef account;
+    private BigDecimal amount;
+    private Budget.PeriodType periodType;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // JPQL 생성자 표현식용
+    public BudgetResponse(Long id, Long categoryId, String categoryName, String categoryColor,
+                          Long accountId, String accountName, BigDecimal amount, Budget.PeriodType periodType,
+                          LocalDate startDate, LocalDate endDate, Boolean isActive,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, CategoryRef.of(categoryId, categoryName, categoryColor), AccountRef.of(accountId, accountName),
+                amount, periodType, startDate, endDate, isActive, createdAt, updatedAt);
+    }
+}
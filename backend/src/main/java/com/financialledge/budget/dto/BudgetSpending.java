@@ -0,0 +1,19 @@
+package com.financialledge.budget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// (카테고리, 계좌, 일자) 단위 지출 합계
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetSpending {
+    private Long categoryId;
+    private Long accountId;
+    private LocalDate transactionDate;
+    private BigDecimal total;
+}
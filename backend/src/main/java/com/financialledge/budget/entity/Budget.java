@@ -15,7 +15,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "budgets")
+@Table(name = "budgets", indexes = {
+    @Index(name = "idx_budgets_user_category", columnList = "user_id, category_id"),
+    @Index(name = "idx_budgets_user_account", columnList = "user_id, account_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
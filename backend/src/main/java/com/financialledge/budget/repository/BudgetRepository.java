@@ -1,14 +1,44 @@
 package com.financialledge.budget.repository;
 
+import com.financialledge.budget.dto.BudgetResponse;
+import com.financialledge.budget.dto.BudgetSpending;
 import com.financialledge.budget.entity.Budget;
+import com.financialledge.transaction.entity.Transaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
+
+    // 조회 응답용: 카테고리/계좌 이름을 함께 읽는다 (엔티티/연관 로딩 없음)
+    String RESPONSE_SELECT = "SELECT new com.financialledge.budget.dto.BudgetResponse(" +
+            "b.id, c.id, c.name, c.color, a.id, a.name, b.amount, b.periodType, b.startDate, b.endDate, " +
+            "b.isActive, b.createdAt, b.updatedAt) " +
+            "FROM Budget b LEFT JOIN b.category c LEFT JOIN b.account a ";
+
+    @Query(RESPONSE_SELECT + "WHERE b.id = :id AND b.userId = :userId")
+    Optional<BudgetResponse> findResponseByIdAndUserId(Long id, Long userId);
+
+    @Query(RESPONSE_SELECT + "WHERE b.userId = :userId ORDER BY b.id")
+    List<BudgetResponse> findResponsesByUserId(Long userId);
+
+    @Query(RESPONSE_SELECT + "WHERE b.userId = :userId AND b.category.id = :categoryId ORDER BY b.id")
+    List<BudgetResponse> findResponsesByUserIdAndCategoryId(Long userId, Long categoryId);
+
+    @Query(RESPONSE_SELECT + "WHERE b.userId = :userId AND b.account.id = :accountId ORDER BY b.id")
+    List<BudgetResponse> findResponsesByUserIdAndAccountId(Long userId, Long accountId);
+
+    @Query(RESPONSE_SELECT + "WHERE b.userId = :userId AND b.isActive = true ORDER BY b.id")
+    List<BudgetResponse> findActiveResponsesByUserId(Long userId);
+
+    @Query(RESPONSE_SELECT + "WHERE b.userId = :userId AND b.periodType = :periodType ORDER BY b.id")
+    List<BudgetResponse> findResponsesByUserIdAndPeriodType(Long userId, Budget.PeriodType periodType);
     
     List<Budget> findByUserId(Long userId);
     
@@ -17,6 +47,25 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
     List<Budget> findByUserIdAndAccountId(Long userId, Long accountId);
     
     List<Budget> findByUserIdAndIsActiveTrue(Long userId);
+
+    @Query("SELECT b FROM Budget b JOIN FETCH b.category LEFT JOIN FETCH b.account " +
+            "WHERE b.userId = :userId AND b.isActive = true ORDER BY b.id")
+    List<Budget> findActiveWithCategoryAndAccount(Long userId);
+
+    // 거래 하나에 걸린 예산만 조회 (user_id, category_id 인덱스)
+    @Query("SELECT b FROM Budget b JOIN FETCH b.category LEFT JOIN FETCH b.account " +
+            "WHERE b.userId = :userId AND b.isActive = true AND b.category.id IN :categoryIds")
+    List<Budget> findActiveByUserIdAndCategoryIdIn(Long userId, Collection<Long> categoryIds);
+
+    // 모든 예산의 지출을 한 번에 집계 - 예산별 기간 합산은 서비스에서 수행
+    @Query("SELECT new com.financialledge.budget.dto.BudgetSpending(" +
+            "t.category.id, t.account.id, t.transactionDate, SUM(t.amount)) " +
+            "FROM Transaction t " +
+            "WHERE t.userId = :userId AND t.transactionType = :type " +
+            "AND t.category.id IN :categoryIds AND t.transactionDate BETWEEN :from AND :to " +
+            "GROUP BY t.category.id, t.account.id, t.transactionDate")
+    List<BudgetSpending> sumSpending(Long userId, Transaction.TransactionType type,
+                                     Collection<Long> categoryIds, LocalDate from, LocalDate to);
     
     List<Budget> findByUserIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
             Long userId, LocalDate date1, LocalDate date2);
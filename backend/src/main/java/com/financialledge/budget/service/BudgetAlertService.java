@@ -0,0 +1,295 @@
+package com.financialledge.budget.service;
+
+import com.financialledge.budget.alert.BudgetAlertSink;
+import com.financialledge.budget.dto.BudgetAlert;
+import com.financialledge.budget.dto.BudgetSpending;
+import com.financialledge.budget.entity.Budget;
+import com.financialledge.budget.repository.BudgetRepository;
+import com.financialledge.budget.util.BudgetPeriod;
+import com.financialledge.transaction.entity.Transaction;
+import com.financialledge.transaction.event.TransactionChangedEvent;
+import com.financialledge.transaction.event.TransactionBatchImportedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * 거래 쓰기 시 해당 거래에 걸린 예산만 누계를 갱신하고 임계치(기본 80%, 100%)를 넘으면 알린다.
+ * 커밋 이후 별도 스레드에서 실행되어 거래 쓰기 응답 시간에 영향을 주지 않는다.
+ * 대량 가져오기는 배치 하나를 변경 하나로 보고 같은 방식으로 확인한다.
+ */
+@Slf4j
+@Service
+public class BudgetAlertService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetRunningTotals budgetRunningTotals;
+    private final List<BudgetAlertSink> sinks;
+    private final List<Integer> thresholds;
+    private final Executor alertExecutor;
+
+    // 커밋 직전에 받은 변경 번호 (이벤트 객체 기준). 커밋/롤백 결과 없이 끝난 트랜잭션의 번호는 이벤트가 수거될 때 끝낸다
+    private final Cache<Object, Long> pendingChanges;
+
+    public BudgetAlertService(BudgetRepository budgetRepository,
+                              BudgetRunningTotals budgetRunningTotals,
+                              List<BudgetAlertSink> sinks,
+                              @Value("${budget.alerts.thresholds:80,100}") List<Integer> thresholds,
+                              @Qualifier("applicationTaskExecutor") Executor alertExecutor) {
+        this.budgetRepository = budgetRepository;
+        this.budgetRunningTotals = budgetRunningTotals;
+        this.sinks = sinks;
+        this.alertExecutor = alertExecutor;
+        this.thresholds = thresholds.stream().sorted().toList();
+        this.pendingChanges = Caffeine.newBuilder()
+                .weakKeys()
+                .removalListener((Object event, Long change, RemovalCause cause) -> {
+                    if (cause == RemovalCause.COLLECTED && change != null) {
+                        budgetRunningTotals.endChange(change);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 커밋 직전에 변경 번호를 받아 둔다. 커밋되면 별도 스레드에서 누계를 갱신하고, 롤백되면 번호만 끝낸다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beginTransactionChange(TransactionChangedEvent event) {
+        if (!expenseCategories(event).isEmpty()) {
+            pendingChanges.put(event, budgetRunningTotals.beginChange());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        Long change = endChange(event);
+        if (change != null) {
+            alertExecutor.execute(() -> evaluate(event, change));
+        }
+    }
+
+    /**
+     * 가져오기 배치도 같은 방식으로, 커밋되면 배치 합계로 임계치를 확인한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beginBatchChange(TransactionBatchImportedEvent event) {
+        pendingChanges.put(event, budgetRunningTotals.beginChange());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionBatchImported(TransactionBatchImportedEvent event) {
+        Long change = endChange(event);
+        if (change != null) {
+            alertExecutor.execute(() -> evaluate(event, change));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK,
+            classes = {TransactionChangedEvent.class, TransactionBatchImportedEvent.class})
+    public void onRollback(Object event) {
+        endChange(event);
+    }
+
+    // 누계 갱신 전에 진행 중 목록에서 빼야 새로 읽은 합계가 이 변경을 포함한 것으로 판단된다
+    private Long endChange(Object event) {
+        Long change = pendingChanges.asMap().remove(event);
+        if (change != null) {
+            budgetRunningTotals.endChange(change);
+        }
+        return change;
+    }
+
+    // 커밋된 변경 하나를 해당 예산 누계에 반영하고 임계치를 확인한다
+    void evaluate(TransactionChangedEvent event, long change) {
+        LocalDate today = LocalDate.now();
+        List<Budget> budgets = new ArrayList<>();
+        List<BudgetPeriod> periods = new ArrayList<>();
+        List<BigDecimal> deltas = new ArrayList<>();
+        for (Budget budget : budgetRepository.findActiveByUserIdAndCategoryIdIn(event.userId(), expenseCategories(event))) {
+            BudgetPeriod period = BudgetPeriod.current(budget, today);
+            if (period == null) {
+                continue;
+            }
+            BigDecimal delta = contribution(budget, period, event.after())
+                    .subtract(contribution(budget, period, event.before()));
+            if (delta.signum() != 0) {
+                budgets.add(budget);
+                periods.add(period);
+                deltas.add(delta);
+            }
+        }
+        apply(event.userId(), budgets, periods, deltas, change);
+    }
+
+    // 커밋된 가져오기 배치 하나를 해당 예산 누계에 반영하고 임계치를 확인한다
+    void evaluate(TransactionBatchImportedEvent event, long change) {
+        LocalDate today = LocalDate.now();
+        Set<Long> categoryIds = new HashSet<>();
+        event.expenses().forEach(expense -> categoryIds.add(expense.categoryId()));
+        List<Budget> budgets = new ArrayList<>();
+        List<BudgetPeriod> periods = new ArrayList<>();
+        List<BigDecimal> deltas = new ArrayList<>();
+        for (Budget budget : budgetRepository.findActiveByUserIdAndCategoryIdIn(event.userId(), categoryIds)) {
+            BudgetPeriod period = BudgetPeriod.current(budget, today);
+            if (period == null) {
+                continue;
+            }
+            Long accountId = budget.getAccount() != null ? budget.getAccount().getId() : null;
+            BigDecimal delta = event.expenses().stream()
+                    .filter(expense -> budget.getCategory().getId().equals(expense.categoryId()))
+                    .filter(expense -> accountId == null || accountId.equals(expense.accountId()))
+                    .filter(expense -> period.contains(expense.transactionDate()))
+                    .map(TransactionBatchImportedEvent.ExpenseTotal::amount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            if (delta.signum() != 0) {
+                budgets.add(budget);
+                periods.add(period);
+                deltas.add(delta);
+            }
+        }
+        apply(event.userId(), budgets, periods, deltas, change);
+    }
+
+    private void apply(Long userId, List<Budget> budgets, List<BudgetPeriod> periods, List<BigDecimal> deltas,
+                       long change) {
+        if (budgets.isEmpty()) {
+            return;
+        }
+
+        List<BigDecimal[]> changes = budgetRunningTotals.withLocks(budgets.stream().map(Budget::getId).toList(), () -> {
+            Set<Long> loaded = loadTotals(userId, budgets, periods, change);
+            List<BigDecimal[]> result = new ArrayList<>();
+            for (int i = 0; i < budgets.size(); i++) {
+                Budget budget = budgets.get(i);
+                result.add(budgetRunningTotals.apply(budget, change, deltas.get(i), loaded.contains(budget.getId())));
+            }
+            return result;
+        });
+        for (int i = 0; i < budgets.size(); i++) {
+            BigDecimal[] before = changes.get(i);
+            if (before != null) {
+                checkThresholds(budgets.get(i), periods.get(i), before[0], before[1]);
+            }
+        }
+    }
+
+    // 누계가 없거나 믿을 수 없는 예산만 한 번의 집계 쿼리로 읽어 교체한다. 읽은 예산 id 를 돌려준다
+    private Set<Long> loadTotals(Long userId, List<Budget> budgets, List<BudgetPeriod> periods, long change) {
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < budgets.size(); i++) {
+            if (budgetRunningTotals.needsLoad(budgets.get(i), periods.get(i), change)) {
+                missing.add(i);
+            }
+        }
+        if (missing.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> categoryIds = new HashSet<>();
+        LocalDate from = null;
+        LocalDate to = null;
+        for (int i : missing) {
+            categoryIds.add(budgets.get(i).getCategory().getId());
+            BudgetPeriod period = periods.get(i);
+            from = from == null || period.start().isBefore(from) ? period.start() : from;
+            to = to == null || period.end().isAfter(to) ? period.end() : to;
+        }
+        BudgetRunningTotals.LoadStart start = budgetRunningTotals.startLoad();
+        List<BudgetSpending> spending = budgetRepository.sumSpending(
+                userId, Transaction.TransactionType.EXPENSE, categoryIds, from, to);
+        BudgetRunningTotals.LoadMark mark = budgetRunningTotals.finishLoad(start);
+
+        Set<Long> loaded = new HashSet<>();
+        for (int i : missing) {
+            Budget budget = budgets.get(i);
+            BudgetPeriod period = periods.get(i);
+            Long accountId = budget.getAccount() != null ? budget.getAccount().getId() : null;
+            BigDecimal total = spending.stream()
+                    .filter(s -> s.getCategoryId().equals(budget.getCategory().getId()))
+                    .filter(s -> accountId == null || accountId.equals(s.getAccountId()))
+                    .filter(s -> period.contains(s.getTransactionDate()))
+                    .map(BudgetSpending::getTotal)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            budgetRunningTotals.load(budget, period, total, mark);
+            loaded.add(budget.getId());
+        }
+        return loaded;
+    }
+
+    private void checkThresholds(Budget budget, BudgetPeriod period, BigDecimal before, BigDecimal after) {
+        if (budget.getAmount().signum() <= 0) {
+            return;
+        }
+        for (int threshold : thresholds) {
+            BigDecimal limit = budget.getAmount().multiply(BigDecimal.valueOf(threshold)).divide(HUNDRED);
+            if (before.compareTo(limit) < 0 && after.compareTo(limit) >= 0) {
+                send(BudgetAlert.builder()
+                        .userId(budget.getUserId())
+                        .budgetId(budget.getId())
+                        .categoryId(budget.getCategory().getId())
+                        .accountId(budget.getAccount() != null ? budget.getAccount().getId() : null)
+                        .periodStart(period.start())
+                        .periodEnd(period.end())
+                        .amount(budget.getAmount())
+                        .spent(after)
+                        .threshold(threshold)
+                        .occurredAt(LocalDateTime.now())
+                        .build());
+            }
+        }
+    }
+
+    private void send(BudgetAlert alert) {
+        for (BudgetAlertSink sink : sinks) {
+            try {
+                sink.send(alert);
+            } catch (Exception e) {
+                log.warn("Budget alert sink {} failed", sink.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private Set<Long> expenseCategories(TransactionChangedEvent event) {
+        Set<Long> categoryIds = new HashSet<>();
+        addCategory(categoryIds, event.before());
+        addCategory(categoryIds, event.after());
+        return categoryIds;
+    }
+
+    private void addCategory(Set<Long> categoryIds, TransactionChangedEvent.Snapshot transaction) {
+        if (transaction != null && transaction.transactionType() == Transaction.TransactionType.EXPENSE
+                && transaction.categoryId() != null) {
+            categoryIds.add(transaction.categoryId());
+        }
+    }
+
+    // 해당 거래가 이 예산의 현재 기간 지출에 포함되는 금액
+    private BigDecimal contribution(Budget budget, BudgetPeriod period, TransactionChangedEvent.Snapshot transaction) {
+        if (transaction == null
+                || transaction.transactionType() != Transaction.TransactionType.EXPENSE
+                || !budget.getCategory().getId().equals(transaction.categoryId())
+                || (budget.getAccount() != null && !budget.getAccount().getId().equals(transaction.accountId()))
+                || !period.contains(transaction.transactionDate())) {
+            return BigDecimal.ZERO;
+        }
+        return transaction.amount();
+    }
+}
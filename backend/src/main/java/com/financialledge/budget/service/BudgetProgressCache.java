@@ -0,0 +1,108 @@
+package com.financialledge.budget.service;
+
+import com.financialledge.budget.dto.BudgetProgressResponse;
+import com.financialledge.common.transaction.AfterCommit;
+import com.financialledge.transaction.event.TransactionChangedEvent;
+import com.financialledge.transaction.event.TransactionsImportedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 예산 진행률 캐시 (크기 제한과 만료가 있는 Caffeine 캐시).
+ * 거래 쓰기는 해당 (카테고리, 계좌)에 걸린 예산이 있을 때만 무효화하며, 무효화는 커밋 이후에 적용한다.
+ * 계산하는 동안에는 세대(generation)만 담은 항목을 두고, 그 사이 무효화되면 세대가 바뀌어 결과를 캐시에 넣지 않는다.
+ * 그 항목이 만료/축출되어도 결과는 넣지 않는다.
+ */
+@Component
+public class BudgetProgressCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private final Cache<Long, Entry> entries = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(TTL)
+            .build();
+    private final AtomicLong generations = new AtomicLong();
+    private final AtomicLong globalGeneration = new AtomicLong();
+
+    public List<BudgetProgressResponse> get(Long userId, LocalDate today, Supplier<List<BudgetProgressResponse>> loader) {
+        Entry cached = entries.getIfPresent(userId);
+        // 날짜가 바뀌면 기간이 넘어갈 수 있으므로 다시 계산
+        if (cached != null && cached.isLoaded() && cached.computedOn().equals(today)) {
+            return cached.progress();
+        }
+
+        // 이미 계산 중이면 그 세대를 같이 쓴다
+        Entry loading = entries.asMap().compute(userId, (key, current) ->
+                current != null && !current.isLoaded() ? current : Entry.loading(generations.incrementAndGet()));
+        long global = globalGeneration.get();
+        List<BudgetProgressResponse> progress = List.copyOf(loader.get());
+        entries.asMap().computeIfPresent(userId, (key, current) ->
+                globalGeneration.get() == global && current.generation() == loading.generation()
+                        ? new Entry(current.generation(), today, progress)
+                        : current);
+        return progress;
+    }
+
+    // 커밋 이후 호출되므로 바로 무효화
+    @TransactionalEventListener
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        entries.asMap().computeIfPresent(event.userId(), (key, entry) -> {
+            if (!entry.isLoaded()) {
+                return Entry.loading(generations.incrementAndGet());
+            }
+            return entry.touches(event.before()) || entry.touches(event.after()) ? null : entry;
+        });
+    }
+
+    @EventListener
+    public void onTransactionsImported(TransactionsImportedEvent event) {
+        evictUserNow(event.userId());
+    }
+
+    public void evictUser(Long userId) {
+        AfterCommit.run(() -> evictUserNow(userId));
+    }
+
+    // 카테고리/계좌 이름 변경 등 사용자 구분 없는 변경
+    public void evictAll() {
+        AfterCommit.run(() -> {
+            globalGeneration.incrementAndGet();
+            entries.invalidateAll();
+        });
+    }
+
+    private void evictUserNow(Long userId) {
+        entries.asMap().computeIfPresent(userId, (key, entry) ->
+                entry.isLoaded() ? null : Entry.loading(generations.incrementAndGet()));
+    }
+
+    // progress 가 null 이면 계산 중 (세대만 보관)
+    private record Entry(long generation, LocalDate computedOn, List<BudgetProgressResponse> progress) {
+
+        static Entry loading(long generation) {
+            return new Entry(generation, null, null);
+        }
+
+        boolean isLoaded() {
+            return progress != null;
+        }
+
+        boolean touches(TransactionChangedEvent.Snapshot transaction) {
+            return transaction != null && progress.stream()
+                    .anyMatch(p -> Objects.equals(p.getCategoryId(), transaction.categoryId())
+                            && (p.getAccountId() == null || Objects.equals(p.getAccountId(), transaction.accountId())));
+        }
+    }
+}
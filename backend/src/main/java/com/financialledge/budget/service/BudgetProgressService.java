@@ -0,0 +1,96 @@
+package com.financialledge.budget.service;
+
+import com.financialledge.budget.dto.BudgetProgressResponse;
+import com.financialledge.budget.dto.BudgetSpending;
+import com.financialledge.budget.entity.Budget;
+import com.financialledge.budget.repository.BudgetRepository;
+import com.financialledge.budget.util.BudgetPeriod;
+import com.financialledge.transaction.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BudgetProgressService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetProgressCache budgetProgressCache;
+
+    public List<BudgetProgressResponse> getActiveBudgetProgress(Long userId) {
+        LocalDate today = LocalDate.now();
+        return budgetProgressCache.get(userId, today, () -> calculate(userId, today));
+    }
+
+    private List<BudgetProgressResponse> calculate(Long userId, LocalDate today) {
+        List<Budget> budgets = new ArrayList<>();
+        List<BudgetPeriod> periods = new ArrayList<>();
+        for (Budget budget : budgetRepository.findActiveWithCategoryAndAccount(userId)) {
+            BudgetPeriod period = BudgetPeriod.current(budget, today);
+            if (period != null) {
+                budgets.add(budget);
+                periods.add(period);
+            }
+        }
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
+
+        // 전체 예산 기간을 덮는 범위로 한 번만 집계
+        Set<Long> categoryIds = budgets.stream()
+                .map(budget -> budget.getCategory().getId())
+                .collect(Collectors.toSet());
+        LocalDate from = periods.stream().map(BudgetPeriod::start).min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = periods.stream().map(BudgetPeriod::end).max(LocalDate::compareTo).orElseThrow();
+        Map<Long, List<BudgetSpending>> spendingByCategory = budgetRepository
+                .sumSpending(userId, Transaction.TransactionType.EXPENSE, categoryIds, from, to)
+                .stream()
+                .collect(Collectors.groupingBy(BudgetSpending::getCategoryId));
+
+        List<BudgetProgressResponse> result = new ArrayList<>(budgets.size());
+        for (int i = 0; i < budgets.size(); i++) {
+            Budget budget = budgets.get(i);
+            BudgetPeriod period = periods.get(i);
+            Long accountId = budget.getAccount() != null ? budget.getAccount().getId() : null;
+            BigDecimal spent = spendingByCategory.getOrDefault(budget.getCategory().getId(), List.of()).stream()
+                    .filter(s -> accountId == null || accountId.equals(s.getAccountId()))
+                    .filter(s -> period.contains(s.getTransactionDate()))
+                    .map(BudgetSpending::getTotal)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            result.add(toResponse(budget, period, spent));
+        }
+        return result;
+    }
+
+    private BudgetProgressResponse toResponse(Budget budget, BudgetPeriod period, BigDecimal spent) {
+        BigDecimal usageRate = budget.getAmount().signum() > 0
+                ? spent.multiply(HUNDRED).divide(budget.getAmount(), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        return BudgetProgressResponse.builder()
+                .budgetId(budget.getId())
+                .categoryId(budget.getCategory().getId())
+                .categoryName(budget.getCategory().getName())
+                .accountId(budget.getAccount() != null ? budget.getAccount().getId() : null)
+                .accountName(budget.getAccount() != null ? budget.getAccount().getName() : null)
+                .periodType(budget.getPeriodType())
+                .periodStart(period.start())
+                .periodEnd(period.end())
+                .amount(budget.getAmount())
+                .spent(spent)
+                .remaining(budget.getAmount().subtract(spent))
+                .usageRate(usageRate)
+                .build();
+    }
+}
@@ -0,0 +1,196 @@
+package com.financialledge.budget.service;
+
+import com.financialledge.budget.entity.Budget;
+import com.financialledge.budget.util.BudgetPeriod;
+import com.financialledge.common.transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 예산별 현재 기간 지출 누계 (메모리). 처음 건드릴 때 DB 에서 읽고 이후에는 증감만 반영한다.
+ * 기간이 바뀌면 해당 항목은 다시 읽는다.
+ *
+ * 커밋 이후 비동기로 처리되는 변경은 DB 에서 읽은 합계에 이미 들어 있을 수 있다.
+ * 그래서 거래 변경마다 커밋 전에 번호(change)를 받고 커밋/롤백이 끝나면 진행 중 목록에서 뺀다.
+ * 합계를 읽기 직전/직후의 번호와 진행 중 목록을 함께 저장해 두고 ({@link LoadMark}),
+ * 변경이 그 합계에 들어 있으면 증감을 다시 더하지 않는다. 판단할 수 없으면(읽는 도중 커밋) 다시 읽는다.
+ * 예산 단위 락 안에서 읽고 반영하므로 같은 예산을 동시에 읽어 덮어쓰는 일은 없다.
+ * 누계는 크기 제한과 만료가 있는 Caffeine 캐시에 두며, 빠진 누계는 다음 변경 때 DB 에서 다시 읽는다.
+ */
+@Component
+public class BudgetRunningTotals {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int MAX_ENTRIES = 10_000;
+    private static final Duration IDLE_TTL = Duration.ofHours(6);
+
+    private final Cache<Long, RunningTotal> totals = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterAccess(IDLE_TTL)
+            .build();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    private final Object changeLock = new Object();
+    private long lastChange;
+    private final Set<Long> inFlight = new HashSet<>();
+
+    // 무효화마다 증가. 읽는 도중 무효화되면 읽은 합계를 버린다
+    private final AtomicLong generation = new AtomicLong();
+
+    public BudgetRunningTotals() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 거래 변경 시작 (커밋 전). 돌려받은 번호는 커밋/롤백 후 {@link #endChange} 로 끝낸다.
+     */
+    public long beginChange() {
+        synchronized (changeLock) {
+            long change = ++lastChange;
+            inFlight.add(change);
+            return change;
+        }
+    }
+
+    public void endChange(long change) {
+        synchronized (changeLock) {
+            inFlight.remove(change);
+        }
+    }
+
+    /**
+     * DB 합계를 읽기 직전에 호출. 읽은 뒤 {@link #finishLoad} 로 표식을 완성한다.
+     */
+    public LoadStart startLoad() {
+        synchronized (changeLock) {
+            return new LoadStart(generation.get(), lastChange, Set.copyOf(inFlight));
+        }
+    }
+
+    public LoadMark finishLoad(LoadStart start) {
+        synchronized (changeLock) {
+            return new LoadMark(start.generation(), start.lastChange(), start.inFlight(), lastChange);
+        }
+    }
+
+    /**
+     * 예산 단위 락을 잡고 실행한다. 교착을 피하려고 스트라이프 번호 순서로 잡는다.
+     */
+    public <T> T withLocks(Collection<Long> budgetIds, Supplier<T> action) {
+        TreeSet<Integer> stripes = new TreeSet<>();
+        for (Long budgetId : budgetIds) {
+            stripes.add(Math.floorMod(budgetId.hashCode(), LOCK_STRIPES));
+        }
+        Deque<ReentrantLock> held = new ArrayDeque<>();
+        try {
+            for (int stripe : stripes) {
+                locks[stripe].lock();
+                held.push(locks[stripe]);
+            }
+            return action.get();
+        } finally {
+            while (!held.isEmpty()) {
+                held.pop().unlock();
+            }
+        }
+    }
+
+    // 현재 기간 누계가 없거나, change 가 누계에 들어 있는지 알 수 없어 DB 에서 다시 읽어야 하는지 (락 안에서 호출)
+    public boolean needsLoad(Budget budget, BudgetPeriod period, long change) {
+        RunningTotal current = totals.getIfPresent(budget.getId());
+        return current == null || !current.periodStart().equals(period.start())
+                || current.mark().visibility(change) == Visibility.UNKNOWN;
+    }
+
+    /**
+     * DB 에서 읽은 합계로 누계를 교체한다 (락 안에서 호출). 읽는 도중 무효화됐으면 버린다.
+     */
+    public void load(Budget budget, BudgetPeriod period, BigDecimal total, LoadMark mark) {
+        if (generation.get() != mark.generation()) {
+            totals.invalidate(budget.getId());
+            return;
+        }
+        totals.put(budget.getId(), new RunningTotal(budget.getUserId(), period.start(), total, mark));
+    }
+
+    /**
+     * change 의 delta 를 반영하고 [반영 전, 반영 후] 누계를 돌려준다 (락 안에서 호출). 누계가 없으면 null.
+     * 이미 합계에 들어 있는 변경은 누계를 바꾸지 않는다. 이 호출 직전에 읽은 합계(justLoaded)라면
+     * 알림 판단을 위해 [합계 - delta, 합계] 를, 아니면 변화 없음으로 돌려준다 (알림은 읽은 쪽이 이미 판단함).
+     */
+    public BigDecimal[] apply(Budget budget, long change, BigDecimal delta, boolean justLoaded) {
+        RunningTotal current = totals.getIfPresent(budget.getId());
+        if (current == null) {
+            return null;
+        }
+        return switch (current.mark().visibility(change)) {
+            case INCLUDED -> justLoaded
+                    ? new BigDecimal[]{current.spent().subtract(delta), current.spent()}
+                    : new BigDecimal[]{current.spent(), current.spent()};
+            case NOT_INCLUDED -> {
+                BigDecimal after = current.spent().add(delta);
+                totals.put(budget.getId(), new RunningTotal(current.userId(), current.periodStart(), after, current.mark()));
+                yield new BigDecimal[]{current.spent(), after};
+            }
+            case UNKNOWN -> null;
+        };
+    }
+
+    public void evictBudget(Long budgetId) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            totals.invalidate(budgetId);
+        });
+    }
+
+    public void evictUser(Long userId) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            totals.asMap().values().removeIf(total -> total.userId().equals(userId));
+        });
+    }
+
+    public record LoadStart(long generation, long lastChange, Set<Long> inFlight) {
+    }
+
+    /**
+     * 합계를 읽기 직전 마지막 변경 번호와 진행 중 목록, 읽은 직후 마지막 번호.
+     */
+    public record LoadMark(long generation, long lastChangeBefore, Set<Long> inFlightBefore, long lastChangeAfter) {
+
+        Visibility visibility(long change) {
+            // 읽기 전에 커밋까지 끝난 변경
+            if (change <= lastChangeBefore && !inFlightBefore.contains(change)) {
+                return Visibility.INCLUDED;
+            }
+            // 읽은 뒤에 시작한 변경
+            if (change > lastChangeAfter) {
+                return Visibility.NOT_INCLUDED;
+            }
+            return Visibility.UNKNOWN;
+        }
+    }
+
+    enum Visibility {
+        INCLUDED, NOT_INCLUDED, UNKNOWN
+    }
+
+    private record RunningTotal(Long userId, LocalDate periodStart, BigDecimal spent, LoadMark mark) {
+    }
+}
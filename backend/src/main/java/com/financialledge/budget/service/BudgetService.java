@@ -2,8 +2,11 @@ package com.financialledge.budget.service;
 
 import com.financialledge.auth.entity.User;
 import com.financialledge.auth.repository.UserRepository;
+import com.financialledge.budget.dto.BudgetResponse;
 import com.financialledge.budget.entity.Budget;
 import com.financialledge.budget.repository.BudgetRepository;
+import com.financialledge.sync.entity.SyncTombstone;
+import com.financialledge.sync.service.SyncTombstoneService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,46 +20,48 @@ public class BudgetService {
 
     private final BudgetRepository budgetRepository;
     private final UserRepository userRepository;
+    private final BudgetProgressCache budgetProgressCache;
+    private final BudgetRunningTotals budgetRunningTotals;
+    private final SyncTombstoneService syncTombstoneService;
 
-    public List<Budget> getAllBudgets(Long userId) {
-        return budgetRepository.findByUserId(userId);
+    public List<BudgetResponse> getAllBudgets(Long userId) {
+        return budgetRepository.findResponsesByUserId(userId);
     }
 
-    public Budget getBudgetById(Long id, Long userId) {
-        Budget budget = budgetRepository.findById(id)
+    public BudgetResponse getBudgetById(Long id, Long userId) {
+        return budgetRepository.findResponseByIdAndUserId(id, userId)
                 .orElseThrow(() -> new RuntimeException("Budget not found with id: " + id));
-        if (!budget.getUserId().equals(userId)) {
-            throw new RuntimeException("Budget not found with id: " + id);
-        }
-        return budget;
     }
 
-    public List<Budget> getBudgetsByCategoryId(Long userId, Long categoryId) {
-        return budgetRepository.findByUserIdAndCategoryId(userId, categoryId);
+    public List<BudgetResponse> getBudgetsByCategoryId(Long userId, Long categoryId) {
+        return budgetRepository.findResponsesByUserIdAndCategoryId(userId, categoryId);
     }
 
-    public List<Budget> getBudgetsByAccountId(Long userId, Long accountId) {
-        return budgetRepository.findByUserIdAndAccountId(userId, accountId);
+    public List<BudgetResponse> getBudgetsByAccountId(Long userId, Long accountId) {
+        return budgetRepository.findResponsesByUserIdAndAccountId(userId, accountId);
     }
 
-    public List<Budget> getActiveBudgets(Long userId) {
-        return budgetRepository.findByUserIdAndIsActiveTrue(userId);
+    public List<BudgetResponse> getActiveBudgets(Long userId) {
+        return budgetRepository.findActiveResponsesByUserId(userId);
     }
 
-    public List<Budget> getBudgetsByPeriodType(Long userId, Budget.PeriodType periodType) {
-        return budgetRepository.findByUserIdAndPeriodType(userId, periodType);
+    public List<BudgetResponse> getBudgetsByPeriodType(Long userId, Budget.PeriodType periodType) {
+        return budgetRepository.findResponsesByUserIdAndPeriodType(userId, periodType);
     }
 
     @Transactional
-    public Budget createBudget(Budget budget, Long userId) {
+    public BudgetResponse createBudget(Budget budget, Long userId) {
         User user = userRepository.getReferenceById(userId);
         budget.setUser(user);
-        return budgetRepository.save(budget);
+        budgetProgressCache.evictUser(userId);
+        Budget saved = budgetRepository.save(budget);
+        // 요청 본문의 카테고리/계좌는 id 만 있으므로 이름을 포함해 다시 조회
+        return getBudgetById(saved.getId(), userId);
     }
 
     @Transactional
-    public Budget updateBudget(Long id, Budget budget, Long userId) {
-        Budget existingBudget = getBudgetById(id, userId);
+    public BudgetResponse updateBudget(Long id, Budget budget, Long userId) {
+        Budget existingBudget = getOwnedBudget(id, userId);
         existingBudget.setCategory(budget.getCategory());
         existingBudget.setAccount(budget.getAccount());
         existingBudget.setAmount(budget.getAmount());
@@ -64,12 +69,27 @@ public class BudgetService {
         existingBudget.setStartDate(budget.getStartDate());
         existingBudget.setEndDate(budget.getEndDate());
         existingBudget.setIsActive(budget.getIsActive());
-        return budgetRepository.save(existingBudget);
+        budgetProgressCache.evictUser(userId);
+        budgetRunningTotals.evictBudget(id);
+        budgetRepository.save(existingBudget);
+        return getBudgetById(id, userId);
     }
 
     @Transactional
     public void deleteBudget(Long id, Long userId) {
-        Budget budget = getBudgetById(id, userId);
+        Budget budget = getOwnedBudget(id, userId);
         budgetRepository.delete(budget);
+        syncTombstoneService.record(SyncTombstone.EntityType.BUDGET, id, userId);
+        budgetProgressCache.evictUser(userId);
+        budgetRunningTotals.evictBudget(id);
+    }
+
+    private Budget getOwnedBudget(Long id, Long userId) {
+        Budget budget = budgetRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Budget not found with id: " + id));
+        if (!budget.getUserId().equals(userId)) {
+            throw new RuntimeException("Budget not found with id: " + id);
+        }
+        return budget;
     }
 }
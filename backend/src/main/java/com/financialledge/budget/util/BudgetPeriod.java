@@ -0,0 +1,62 @@
+package com.financialledge.budget.util;
+
+import com.financialledge.budget.entity.Budget;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 예산의 현재 기간. 기간은 startDate 를 기준으로 PeriodType 단위로 반복되며 endDate 에서 잘린다.
+ */
+public record BudgetPeriod(LocalDate start, LocalDate end) {
+
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(start) && !date.isAfter(end);
+    }
+
+    // 오늘이 예산 유효 기간 밖이면 null
+    public static BudgetPeriod current(Budget budget, LocalDate today) {
+        LocalDate anchor = budget.getStartDate();
+        if (anchor == null || today.isBefore(anchor)
+                || (budget.getEndDate() != null && today.isAfter(budget.getEndDate()))) {
+            return null;
+        }
+
+        LocalDate start;
+        LocalDate next;
+        switch (budget.getPeriodType()) {
+            case DAILY -> {
+                start = today;
+                next = today.plusDays(1);
+            }
+            case WEEKLY -> {
+                start = anchor.plusWeeks(ChronoUnit.WEEKS.between(anchor, today));
+                next = start.plusWeeks(1);
+            }
+            case MONTHLY -> {
+                long months = ChronoUnit.MONTHS.between(anchor, today);
+                // 월말 기준일(예: 1/31 -> 2/28)은 plusMonths 가 날짜를 잘라내므로 한 번 더 보정
+                if (!anchor.plusMonths(months + 1).isAfter(today)) {
+                    months++;
+                }
+                start = anchor.plusMonths(months);
+                next = anchor.plusMonths(months + 1);
+            }
+            case YEARLY -> {
+                long years = ChronoUnit.YEARS.between(anchor, today);
+                if (!anchor.plusYears(years + 1).isAfter(today)) {
+                    years++;
+                }
+                start = anchor.plusYears(years);
+                next = anchor.plusYears(years + 1);
+            }
+            default -> throw new IllegalStateException("Unknown period type: " + budget.getPeriodType());
+        }
+
+        LocalDate end = next.minusDays(1);
+        if (budget.getEndDate() != null && end.isAfter(budget.getEndDate())) {
+            end = budget.getEndDate();
+        }
+        return new BudgetPeriod(start, end);
+    }
+}
@@ -1,11 +1,17 @@
 package com.financialledge.category.controller;
 
+import com.financialledge.category.dto.CategoryResponse;
+import com.financialledge.category.dto.CategoryTree;
+import com.financialledge.category.dto.CategoryTreeNode;
 import com.financialledge.category.entity.Category;
 import com.financialledge.category.service.CategoryService;
+import com.financialledge.category.service.CategoryTreeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,49 +21,63 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CategoryTreeService categoryTreeService;
 
     @GetMapping
-    public ResponseEntity<List<Category>> getAllCategories() {
-        List<Category> categories = categoryService.getAllCategories();
+    public ResponseEntity<List<CategoryResponse>> getAllCategories() {
+        List<CategoryResponse> categories = categoryService.getAllCategories();
         return ResponseEntity.ok(categories);
     }
 
+    // 전체 계층을 한 번에. If-None-Match 가 같으면 304
+    @GetMapping("/tree")
+    public ResponseEntity<List<CategoryTreeNode>> getCategoryTree(WebRequest request) {
+        CategoryTree tree = categoryTreeService.getTree();
+        if (request.checkNotModified(tree.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(tree.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(tree.roots());
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Category> getCategoryById(@PathVariable Long id) {
-        Category category = categoryService.getCategoryById(id);
+    public ResponseEntity<CategoryResponse> getCategoryById(@PathVariable Long id) {
+        CategoryResponse category = categoryService.getCategoryById(id);
         return ResponseEntity.ok(category);
     }
 
     @GetMapping("/type/{type}")
-    public ResponseEntity<List<Category>> getCategoriesByType(
+    public ResponseEntity<List<CategoryResponse>> getCategoriesByType(
             @PathVariable Category.TransactionType type) {
-        List<Category> categories = categoryService.getCategoriesByType(type);
+        List<CategoryResponse> categories = categoryService.getCategoriesByType(type);
         return ResponseEntity.ok(categories);
     }
 
     @GetMapping("/parent/{parentId}")
-    public ResponseEntity<List<Category>> getCategoriesByParentId(@PathVariable Long parentId) {
-        List<Category> categories = categoryService.getCategoriesByParentId(parentId);
+    public ResponseEntity<List<CategoryResponse>> getCategoriesByParentId(@PathVariable Long parentId) {
+        List<CategoryResponse> categories = categoryService.getCategoriesByParentId(parentId);
         return ResponseEntity.ok(categories);
     }
 
     @GetMapping("/root")
-    public ResponseEntity<List<Category>> getRootCategories() {
-        List<Category> categories = categoryService.getRootCategories();
+    public ResponseEntity<List<CategoryResponse>> getRootCategories() {
+        List<CategoryResponse> categories = categoryService.getRootCategories();
         return ResponseEntity.ok(categories);
     }
 
     @PostMapping
-    public ResponseEntity<Category> createCategory(@RequestBody Category category) {
-        Category createdCategory = categoryService.createCategory(category);
+    public ResponseEntity<CategoryResponse> createCategory(@RequestBody Category category) {
+        CategoryResponse createdCategory = categoryService.createCategory(category);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdCategory);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Category> updateCategory(
+    public ResponseEntity<CategoryResponse> updateCategory(
             @PathVariable Long id,
             @RequestBody Category category) {
-        Category updatedCategory = categoryService.updateCategory(id, category);
+        CategoryResponse updatedCategory = categoryService.updateCategory(id, category);
         return ResponseEntity.ok(updatedCategory);
     }
 
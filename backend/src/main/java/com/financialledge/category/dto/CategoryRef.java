@@ -0,0 +1,19 @@
+package com.financialledge.category.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 다른 응답에 포함되는 카테고리 요약
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryRef {
+    private Long id;
+    private String name;
+    private String color;
+
+    public static CategoryRef of(Long id, String name, String color) {
+        return id == null ? null : new CategoryRef(id, name, color);
+    }
+}
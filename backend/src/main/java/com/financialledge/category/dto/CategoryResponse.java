@@ -0,0 +1,32 @@
+package com.financialledge.category.dto;
+
+import com.financialledge.category.entity.Category;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryResponse {
+    private Long id;
+    private String name;
+    private String description;
+    private String color;
+    private String icon;
+    private CategoryRef parent;
+    private Category.TransactionType transactionType;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // JPQL 생성자 표현식용
+    public CategoryResponse(Long id, String name, String description, String color, String icon,
+                            Long parentId, String parentName, String parentColor,
+                            Category.TransactionType transactionType,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, name, description, color, icon, CategoryRef.of(parentId, parentName, parentColor),
+                transactionType, createdAt, updatedAt);
+    }
+}
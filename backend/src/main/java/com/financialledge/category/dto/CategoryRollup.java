@@ -0,0 +1,27 @@
+package com.financialledge.category.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.math.BigDecimal;
+
+/**
+ * 하위 카테고리까지 합산한 카테고리별 금액 (네이티브 쿼리 결과 projection).
+ * own* 는 해당 카테고리에 직접 걸린 거래만, total/transactionCount 는 하위 전체 포함.
+ */
+@JsonPropertyOrder({"categoryId", "categoryName", "parentId", "ownTotal", "ownCount", "total", "transactionCount"})
+public interface CategoryRollup {
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    Long getParentId();
+
+    BigDecimal getOwnTotal();
+
+    Long getOwnCount();
+
+    BigDecimal getTotal();
+
+    Long getTransactionCount();
+}
@@ -0,0 +1,9 @@
+package com.financialledge.category.dto;
+
+import java.util.List;
+
+/**
+ * 전체 카테고리 트리와 그 내용으로 만든 ETag.
+ */
+public record CategoryTree(String etag, List<CategoryTreeNode> roots) {
+}
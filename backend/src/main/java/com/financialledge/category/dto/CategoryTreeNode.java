@@ -0,0 +1,33 @@
+package com.financialledge.category.dto;
+
+import com.financialledge.category.entity.Category;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class CategoryTreeNode {
+    private Long id;
+    private String name;
+    private String description;
+    private String color;
+    private String icon;
+    private Category.TransactionType transactionType;
+    private Long parentId;
+    private List<CategoryTreeNode> children = new ArrayList<>();
+
+    // JPQL 생성자 표현식용 (children 은 트리 구성 시 채움)
+    public CategoryTreeNode(Long id, String name, String description, String color, String icon,
+                            Category.TransactionType transactionType, Long parentId) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.color = color;
+        this.icon = icon;
+        this.transactionType = transactionType;
+        this.parentId = parentId;
+    }
+}
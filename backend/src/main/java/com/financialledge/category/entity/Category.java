@@ -1,20 +1,27 @@
 package com.financialledge.category.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.financialledge.common.cache.ReferenceCacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "categories")
+@Table(name = "categories", indexes = {
+    // 하위 카테고리 탐색(재귀 CTE)용
+    @Index(name = "idx_categories_parent", columnList = "parent_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheRegions.CATEGORIES)
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Category {
 
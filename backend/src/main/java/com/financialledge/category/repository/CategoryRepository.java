@@ -1,20 +1,123 @@
 package com.financialledge.category.repository;
 
+import com.financialledge.category.dto.CategoryResponse;
+import com.financialledge.category.dto.CategoryRollup;
+import com.financialledge.category.dto.CategoryTreeNode;
 import com.financialledge.category.entity.Category;
+import com.financialledge.common.cache.ReferenceCacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
-    
+
+    // 조회 응답용: 부모 이름까지 LEFT JOIN 으로 읽는다 (지연 로딩 없음)
+    String RESPONSE_SELECT = "SELECT new com.financialledge.category.dto.CategoryResponse(" +
+            "c.id, c.name, c.description, c.color, c.icon, p.id, p.name, p.color, c.transactionType, " +
+            "c.createdAt, c.updatedAt) " +
+            "FROM Category c LEFT JOIN c.parent p ";
+
+    // 목록 조회는 쿼리 캐시에 결과 행을 그대로 둔다. categories 테이블이 바뀌면 Hibernate 가 무효화
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheRegions.CATEGORY_QUERIES)
+    })
+    @Query(RESPONSE_SELECT + "ORDER BY c.id")
+    List<CategoryResponse> findAllResponses();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheRegions.CATEGORY_QUERIES)
+    })
+    @Query(RESPONSE_SELECT + "WHERE c.id = :id")
+    Optional<CategoryResponse> findResponseById(Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheRegions.CATEGORY_QUERIES)
+    })
+    @Query(RESPONSE_SELECT + "WHERE c.transactionType = :transactionType ORDER BY c.id")
+    List<CategoryResponse> findResponsesByTransactionType(Category.TransactionType transactionType);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheRegions.CATEGORY_QUERIES)
+    })
+    @Query(RESPONSE_SELECT + "WHERE p.id = :parentId ORDER BY c.id")
+    List<CategoryResponse> findResponsesByParentId(Long parentId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheRegions.CATEGORY_QUERIES)
+    })
+    @Query(RESPONSE_SELECT + "WHERE p.id IS NULL ORDER BY c.id")
+    List<CategoryResponse> findRootResponses();
+
     Optional<Category> findByName(String name);
-    
-    List<Category> findByTransactionType(Category.TransactionType transactionType);
-    
-    List<Category> findByParentId(Long parentId);
-    
-    List<Category> findByParentIsNull();
+
+    List<Category> findByNameIn(Collection<String> names);
+
+    // 트리 구성용: 부모는 FK 값만 읽으므로 한 번의 쿼리로 끝남
+    @Query("SELECT new com.financialledge.category.dto.CategoryTreeNode(c.id, c.name, c.description, c.color, " +
+           "c.icon, c.transactionType, c.parent.id) FROM Category c ORDER BY c.name, c.id")
+    List<CategoryTreeNode> findAllTreeNodes();
+
+    /*
+     * 하위 카테고리 합산은 재귀 CTE 로 한 번에 처리한다. 거래 대신 daily_user_totals 롤업을 읽어
+     * 원장 크기가 아니라 조회 일수 x 카테고리 수에 비례한다. UNION 으로 중복을 걸러 순환이 있어도 끝난다.
+     */
+
+    // 카테고리 하나와 그 하위 전체 (parent_id 인덱스로 아래로 탐색)
+    @Query(value = "WITH RECURSIVE subtree(id) AS (" +
+            "  SELECT id FROM categories WHERE id = :categoryId" +
+            "  UNION" +
+            "  SELECT c.id FROM categories c JOIN subtree s ON c.parent_id = s.id" +
+            ") " +
+            "SELECT r.id AS categoryId, r.name AS categoryName, r.parent_id AS parentId, " +
+            "COALESCE(SUM(CASE WHEN d.category_id = r.id THEN d.total_amount END), 0) AS ownTotal, " +
+            "COALESCE(SUM(CASE WHEN d.category_id = r.id THEN d.transaction_count END), 0) AS ownCount, " +
+            "COALESCE(SUM(d.total_amount), 0) AS total, " +
+            "COALESCE(SUM(d.transaction_count), 0) AS transactionCount " +
+            "FROM categories r " +
+            "LEFT JOIN daily_user_totals d ON d.user_id = :userId AND d.transaction_type = :transactionType " +
+            "AND d.total_date BETWEEN :from AND :to AND d.category_id IN (SELECT id FROM subtree) " +
+            "WHERE r.id = :categoryId " +
+            "GROUP BY r.id, r.name, r.parent_id",
+            nativeQuery = true)
+    Optional<CategoryRollup> sumRolledUp(Long userId, Long categoryId, String transactionType,
+                                         LocalDate from, LocalDate to);
+
+    // 기간 내 사용된 카테고리에서 위로 올라가며 모든 조상에 합산 (부모 키는 PK 조회)
+    @Query(value = "WITH RECURSIVE spent(category_id, total, cnt) AS (" +
+            "  SELECT category_id, SUM(total_amount), SUM(transaction_count) FROM daily_user_totals" +
+            "  WHERE user_id = :userId AND transaction_type = :transactionType" +
+            "  AND total_date BETWEEN :from AND :to AND category_id <> 0" +
+            "  GROUP BY category_id" +
+            "), ancestry(category_id, ancestor_id) AS (" +
+            "  SELECT category_id, category_id FROM spent" +
+            "  UNION" +
+            "  SELECT a.category_id, c.parent_id FROM ancestry a JOIN categories c ON c.id = a.ancestor_id" +
+            "  WHERE c.parent_id IS NOT NULL" +
+            ") " +
+            "SELECT r.id AS categoryId, r.name AS categoryName, r.parent_id AS parentId, " +
+            "SUM(CASE WHEN a.ancestor_id = a.category_id THEN s.total ELSE 0 END) AS ownTotal, " +
+            "SUM(CASE WHEN a.ancestor_id = a.category_id THEN s.cnt ELSE 0 END) AS ownCount, " +
+            "SUM(s.total) AS total, " +
+            "SUM(s.cnt) AS transactionCount " +
+            "FROM ancestry a " +
+            "JOIN spent s ON s.category_id = a.category_id " +
+            "JOIN categories r ON r.id = a.ancestor_id " +
+            "GROUP BY r.id, r.name, r.parent_id " +
+            "ORDER BY total DESC, r.id",
+            nativeQuery = true)
+    List<CategoryRollup> sumRolledUpByCategory(Long userId, String transactionType, LocalDate from, LocalDate to);
 }
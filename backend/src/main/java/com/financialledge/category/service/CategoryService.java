@@ -1,12 +1,19 @@
 package com.financialledge.category.service;
 
+import com.financialledge.budget.service.BudgetProgressCache;
+import com.financialledge.common.cache.ReferenceCache;
+import com.financialledge.category.dto.CategoryResponse;
 import com.financialledge.category.entity.Category;
 import com.financialledge.category.repository.CategoryRepository;
+import com.financialledge.sync.entity.SyncTombstone;
+import com.financialledge.sync.service.SyncTombstoneService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -14,51 +21,87 @@ import java.util.List;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final BudgetProgressCache budgetProgressCache;
+    private final ReferenceCache referenceCache;
+    private final CategoryTreeService categoryTreeService;
+    private final SyncTombstoneService syncTombstoneService;
 
-    public List<Category> getAllCategories() {
-        return categoryRepository.findAll();
+    public List<CategoryResponse> getAllCategories() {
+        return categoryRepository.findAllResponses();
     }
 
-    public Category getCategoryById(Long id) {
-        return categoryRepository.findById(id)
+    public CategoryResponse getCategoryById(Long id) {
+        return categoryRepository.findResponseById(id)
                 .orElseThrow(() -> new RuntimeException("Category not found with id: " + id));
     }
 
-    public List<Category> getCategoriesByType(Category.TransactionType type) {
-        return categoryRepository.findByTransactionType(type);
+    public List<CategoryResponse> getCategoriesByType(Category.TransactionType type) {
+        return categoryRepository.findResponsesByTransactionType(type);
     }
 
-    public List<Category> getCategoriesByParentId(Long parentId) {
-        return categoryRepository.findByParentId(parentId);
+    public List<CategoryResponse> getCategoriesByParentId(Long parentId) {
+        return categoryRepository.findResponsesByParentId(parentId);
     }
 
-    public List<Category> getRootCategories() {
-        return categoryRepository.findByParentIsNull();
+    public List<CategoryResponse> getRootCategories() {
+        return categoryRepository.findRootResponses();
     }
 
     @Transactional
-    public Category createCategory(Category category) {
+    public CategoryResponse createCategory(Category category) {
         if (categoryRepository.findByName(category.getName()).isPresent()) {
             throw new RuntimeException("Category with name '" + category.getName() + "' already exists");
         }
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        referenceCache.evictCategories();
+        categoryTreeService.evict();
+        // 요청 본문의 부모는 id 만 있으므로 이름을 포함해 다시 조회
+        return getCategoryById(saved.getId());
     }
 
     @Transactional
-    public Category updateCategory(Long id, Category category) {
-        Category existingCategory = getCategoryById(id);
+    public CategoryResponse updateCategory(Long id, Category category) {
+        Category existingCategory = findCategory(id);
+        if (category.getParent() != null) {
+            checkNotDescendant(id, category.getParent().getId());
+        }
         existingCategory.setName(category.getName());
         existingCategory.setDescription(category.getDescription());
         existingCategory.setColor(category.getColor());
         existingCategory.setIcon(category.getIcon());
         existingCategory.setParent(category.getParent());
         existingCategory.setTransactionType(category.getTransactionType());
-        return categoryRepository.save(existingCategory);
+        budgetProgressCache.evictAll();
+        referenceCache.evictCategories();
+        categoryTreeService.evict();
+        categoryRepository.save(existingCategory);
+        return getCategoryById(id);
     }
 
     @Transactional
     public void deleteCategory(Long id) {
-        Category category = getCategoryById(id);
+        Category category = findCategory(id);
         categoryRepository.delete(category);
+        syncTombstoneService.record(SyncTombstone.EntityType.CATEGORY, id, null);
+        budgetProgressCache.evictAll();
+        referenceCache.evictCategories();
+        categoryTreeService.evict();
+    }
+
+    // 자기 자신이나 하위 카테고리를 부모로 지정하면 트리에 순환이 생김
+    private void checkNotDescendant(Long id, Long parentId) {
+        Set<Long> visited = new HashSet<>();
+        for (Long current = parentId; current != null && visited.add(current); ) {
+            if (current.equals(id)) {
+                throw new RuntimeException("Category " + id + " cannot be moved under its own subcategory");
+            }
+            Category parent = findCategory(current).getParent();
+            current = parent == null ? null : parent.getId();
+        }
+    }
+
+    private Category findCategory(Long id) {
+        return categoryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Category not found with id: " + id));
     }
 }
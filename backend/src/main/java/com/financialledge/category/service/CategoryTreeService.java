@@ -0,0 +1,127 @@
+package com.financialledge.category.service;
+
+import com.financialledge.category.dto.CategoryTree;
+import com.financialledge.category.dto.CategoryTreeNode;
+import com.financialledge.category.repository.CategoryRepository;
+import com.financialledge.common.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카테고리 트리. 전체를 한 번에 읽어 메모리에서 O(n)으로 조립하고 결과를 캐시한다.
+ * 카테고리가 바뀌면 커밋 후 무효화하며, 다른 인스턴스의 변경은 MAX_AGE 뒤에 반영된다.
+ * ETag 는 트리 내용의 해시이므로 어느 인스턴스에서 만들어도 같은 내용이면 같은 값이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CategoryTreeService {
+
+    static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Cached cached;
+
+    public CategoryTree getTree() {
+        Cached current = cached;
+        long now = System.nanoTime();
+        if (current != null && current.generation() == generation.get()
+                && now - current.loadedAt() < MAX_AGE.toNanos()) {
+            return current.tree();
+        }
+
+        long loadingGeneration = generation.get();
+        List<CategoryTreeNode> nodes = categoryRepository.findAllTreeNodes();
+        CategoryTree tree = new CategoryTree(etag(nodes), build(nodes));
+        // 조회 도중 무효화됐으면 캐시에 넣지 않음
+        if (generation.get() == loadingGeneration) {
+            cached = new Cached(loadingGeneration, now, tree);
+        }
+        return tree;
+    }
+
+    public void evict() {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            cached = null;
+        });
+    }
+
+    /**
+     * 부모 id 로 자식 목록을 묶은 뒤 루트부터 내려가며 연결한다.
+     * 부모가 없는(삭제된) 노드는 루트로 올리고, 순환에 걸린 노드는 루트에서 닿지 않으므로 빠진다.
+     */
+    static List<CategoryTreeNode> build(List<CategoryTreeNode> nodes) {
+        Map<Long, CategoryTreeNode> byId = new HashMap<>(nodes.size() * 2);
+        for (CategoryTreeNode node : nodes) {
+            node.setChildren(new ArrayList<>());
+            byId.put(node.getId(), node);
+        }
+
+        List<CategoryTreeNode> roots = new ArrayList<>();
+        Map<Long, List<CategoryTreeNode>> childrenByParent = new HashMap<>();
+        for (CategoryTreeNode node : nodes) {
+            if (node.getParentId() == null || !byId.containsKey(node.getParentId())) {
+                roots.add(node);
+            } else {
+                childrenByParent.computeIfAbsent(node.getParentId(), key -> new ArrayList<>()).add(node);
+            }
+        }
+
+        Deque<CategoryTreeNode> pending = new ArrayDeque<>(roots);
+        int attached = roots.size();
+        while (!pending.isEmpty()) {
+            CategoryTreeNode node = pending.poll();
+            List<CategoryTreeNode> children = childrenByParent.remove(node.getId());
+            if (children != null) {
+                node.setChildren(children);
+                pending.addAll(children);
+                attached += children.size();
+            }
+        }
+        if (attached < nodes.size()) {
+            log.warn("Category tree has {} categories in a parent cycle; they are left out", nodes.size() - attached);
+        }
+        return roots;
+    }
+
+    private static String etag(List<CategoryTreeNode> nodes) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (CategoryTreeNode node : nodes) {
+            String row = String.join("\u001f", Objects.toString(node.getId()), node.getName(),
+                    Objects.toString(node.getDescription()), Objects.toString(node.getColor()),
+                    Objects.toString(node.getIcon()), Objects.toString(node.getTransactionType()),
+                    Objects.toString(node.getParentId()));
+            digest.update(row.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()).substring(0, 22);
+    }
+
+    private record Cached(long generation, long loadedAt, CategoryTree tree) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.financialledge.common.cache;
+
+import com.financialledge.account.entity.Account;
+import com.financialledge.category.entity.Category;
+import com.financialledge.common.transaction.AfterCommit;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리/계좌 2차 캐시 무효화.
+ * <p>
+ * JPA 를 거친 쓰기는 Hibernate 가 엔티티 리전과 쿼리 캐시를 갱신하므로, 여기서는 서비스의 생성/수정/삭제가
+ * 커밋된 뒤 목록 리전을 한 번 더 비워 ORM 을 거치지 않은 변경까지 다음 조회에 반영되게 한다.
+ * 캐시는 인스턴스 로컬이라 다른 인스턴스에는 application.conf 의 만료 시간 뒤에 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictCategories() {
+        AfterCommit.run(() -> {
+            Cache cache = cache();
+            cache.evictEntityData(Category.class);
+            cache.evictQueryRegion(ReferenceCacheRegions.CATEGORY_QUERIES);
+        });
+    }
+
+    public void evictAccounts() {
+        AfterCommit.run(() -> {
+            Cache cache = cache();
+            cache.evictEntityData(Account.class);
+            cache.evictQueryRegion(ReferenceCacheRegions.ACCOUNT_QUERIES);
+        });
+    }
+
+    // 한 계좌만 비운다 (잔액 증감). 이 트랜잭션의 이후 조회와, 커밋 전 값으로 다시 채워진 경우를 위해 두 번 비운다
+    public void evictAccount(Long accountId) {
+        cache().evictEntityData(Account.class, accountId);
+        AfterCommit.run(() -> cache().evictEntityData(Account.class, accountId));
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
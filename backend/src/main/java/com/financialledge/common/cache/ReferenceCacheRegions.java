@@ -0,0 +1,19 @@
+package com.financialledge.common.cache;
+
+/**
+ * 2차 캐시 리전 이름. 크기/만료는 application.conf 에서 같은 이름으로 설정한다.
+ */
+public final class ReferenceCacheRegions {
+
+    public static final String CATEGORIES = "categories";
+    public static final String ACCOUNTS = "accounts";
+    public static final String ROLES = "roles";
+
+    // 목록 조회 결과(id 목록). 엔티티 자체는 위 리전에서 읽는다
+    public static final String CATEGORY_QUERIES = "category-queries";
+    public static final String ACCOUNT_QUERIES = "account-queries";
+    public static final String ROLE_QUERIES = "role-queries";
+
+    private ReferenceCacheRegions() {
+    }
+}
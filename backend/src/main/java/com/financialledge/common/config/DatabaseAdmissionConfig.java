@@ -0,0 +1,84 @@
+package com.financialledge.common.config;
+
+import com.financialledge.common.database.ConnectionAdmissionDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource 를 {@link ConnectionAdmissionDataSource} 로 감싼다.
+ * 허가 수는 database.admission.permits, 0 이면 Hikari maximum-pool-size 를 따른다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "database.admission.enabled", havingValue = "true")
+public class DatabaseAdmissionConfig {
+
+    // Hikari 의 maximum-pool-size 기본값
+    private static final int DEFAULT_PERMITS = 10;
+
+    // BeanPostProcessor 라 static: 다른 빈보다 먼저 만들어져야 한다
+    @Bean
+    public static BeanPostProcessor connectionAdmissionPostProcessor(
+            @Value("${database.admission.permits:0}") int permits,
+            @Value("${database.admission.max-queue:10000}") int maxQueue,
+            @Value("${database.admission.max-wait:5s}") Duration maxWait) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionAdmissionDataSource) {
+                    return bean;
+                }
+                int size = permits > 0 ? permits : poolSize(dataSource);
+                log.info("Database admission for '{}': {} permits, queue {}, max wait {}",
+                        beanName, size, maxQueue, maxWait);
+                return new ConnectionAdmissionDataSource(dataSource, size, maxQueue, maxWait);
+            }
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        // 설정하지 않으면 풀이 시작될 때까지 -1
+        if (dataSource instanceof HikariDataSource hikari && hikari.getMaximumPoolSize() > 0) {
+            return hikari.getMaximumPoolSize();
+        }
+        return DEFAULT_PERMITS;
+    }
+
+    @Bean
+    public MeterBinder connectionAdmissionMetrics(DataSource dataSource) {
+        return registry -> {
+            if (!(dataSource instanceof ConnectionAdmissionDataSource admission)) {
+                return;
+            }
+            Gauge.builder("db.admission.permits.max", admission, ConnectionAdmissionDataSource::getMaxPermits)
+                    .description("Connections that may be checked out at once")
+                    .register(registry);
+            Gauge.builder("db.admission.permits.available", admission, ConnectionAdmissionDataSource::getAvailablePermits)
+                    .register(registry);
+            Gauge.builder("db.admission.queue", admission, ConnectionAdmissionDataSource::getQueueLength)
+                    .description("Threads waiting for a database permit")
+                    .register(registry);
+            FunctionTimer.builder("db.admission.wait", admission,
+                            ConnectionAdmissionDataSource::getWaitCount,
+                            ConnectionAdmissionDataSource::getWaitTotalNanos, TimeUnit.NANOSECONDS)
+                    .description("Time spent queued for a database permit")
+                    .register(registry);
+            FunctionCounter.builder("db.admission.rejected", admission, ConnectionAdmissionDataSource::getRejectionCount)
+                    .description("Requests turned away because the admission queue was full or timed out")
+                    .register(registry);
+        };
+    }
+}
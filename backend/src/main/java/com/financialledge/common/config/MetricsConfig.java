@@ -0,0 +1,35 @@
+package com.financialledge.common.config;
+
+import com.financialledge.common.metrics.QueryCountInterceptor;
+import com.financialledge.common.metrics.QueryCountStatementInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountHibernatePropertiesCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountStatementInspector());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryCountInterceptor(meterRegistry))
+                .addPathPatterns(
+                        "/api/transactions/**",
+                        "/api/budgets/**",
+                        "/api/accounts/**",
+                        "/api/categories/**",
+                        "/api/tags/**");
+    }
+}
@@ -0,0 +1,54 @@
+package com.financialledge.common.controller;
+
+import com.financialledge.common.database.ConnectionAdmissionException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 커넥션을 얻지 못한 요청은 500 이 아니라 503 으로 응답한다.
+ * DB 입장 제어 거절({@link ConnectionAdmissionException})은 Hibernate/Spring 예외로 감싸여 올라오므로 원인을 풀어서 찾고,
+ * 잠시 후 다시 시도하면 되는 과부하라 Retry-After 를 함께 보낸다.
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler({
+            ConnectionAdmissionException.class,
+            CannotCreateTransactionException.class,
+            DataAccessResourceFailureException.class,
+            TransientDataAccessResourceException.class,
+            JDBCConnectionException.class
+    })
+    public ResponseEntity<Void> handleConnectionFailure(Exception e) {
+        if (findAdmissionRejection(e) != null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+        log.warn("Database connection unavailable", e);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
+    static ConnectionAdmissionException findAdmissionRejection(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectionAdmissionException rejection) {
+                return rejection;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return null;
+    }
+}
@@ -1,5 +1,10 @@
 package com.financialledge.common.controller;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -10,14 +15,21 @@ import java.util.Map;
 
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final HealthEndpoint healthEndpoint;
+
+    // 액추에이터 헬스 인디케이터(DB 포함) 결과를 그대로 반영
     @GetMapping("/health")
     public ResponseEntity<Map<String, String>> health() {
+        HealthComponent health = healthEndpoint.health();
+        boolean up = Status.UP.equals(health.getStatus());
+
         Map<String, String> response = new HashMap<>();
-        response.put("status", "UP");
-        response.put("message", "Financial Ledge Backend is running");
-        return ResponseEntity.ok(response);
+        response.put("status", health.getStatus().getCode());
+        response.put("message", up ? "Financial Ledge Backend is running" : "Financial Ledge Backend is unavailable");
+        return ResponseEntity.status(up ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
 
 }
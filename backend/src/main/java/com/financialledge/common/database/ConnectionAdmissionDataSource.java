@@ -0,0 +1,138 @@
+package com.financialledge.common.database;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커넥션 풀 앞의 입장 제어. 커넥션을 빌릴 때 허가를 받고, 닫을 때 돌려준다.
+ * 허가 수를 Hikari 풀 크기에 맞추면 풀이 모자랄 때 요청이 Hikari 대기(connection-timeout)가 아니라
+ * 공정한 세마포어 대기열에 쌓인다. 대기열이 max-queue 를 넘거나 max-wait 안에 허가를 못 받으면 바로 거절한다.
+ * 가상 스레드에서는 대기 중인 요청이 OS 스레드를 잡지 않는다.
+ */
+public class ConnectionAdmissionDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public ConnectionAdmissionDataSource(DataSource target, int maxPermits, int maxQueue, Duration maxWait) {
+        super(target);
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return admitted(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return admitted(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (permits.getQueueLength() >= maxQueue) {
+            rejections.increment();
+            throw new ConnectionAdmissionException(
+                    "Database admission queue is full (" + maxQueue + " waiting)");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                rejections.increment();
+                throw new ConnectionAdmissionException(
+                        "No database permit within " + Duration.ofNanos(maxWaitNanos).toMillis() + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectionAdmissionException("Interrupted while waiting for a database permit");
+        } finally {
+            waits.increment();
+            waitNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    // close() 에서 허가를 한 번만 돌려주는 프록시
+    private Connection admitted(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        yield null;
+                    }
+                    default -> {
+                        try {
+                            yield method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                });
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    public long getWaitCount() {
+        return waits.sum();
+    }
+
+    public double getWaitTotalNanos() {
+        return waitNanos.sum();
+    }
+
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+}
@@ -0,0 +1,14 @@
+package com.financialledge.common.database;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * DB 입장 대기열이 가득 찼거나 대기 시간을 넘김. 잠시 후 다시 시도하면 되는 과부하 상태라
+ * GlobalExceptionHandler 가 감싼 예외에서 찾아 503 과 Retry-After 로 응답한다.
+ */
+public class ConnectionAdmissionException extends SQLTransientConnectionException {
+
+    public ConnectionAdmissionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,93 @@
+package com.financialledge.common.database;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * IDENTITY 에서 pooled 시퀀스로 전환된 테이블의 기존 데이터 마이그레이션.
+ * JPA 초기화(ddl-auto validate/update) 전에 실행되어 시퀀스가 없으면 만들고,
+ * 시퀀스가 이미 사용된 id 범위를 다시 할당하지 않도록 MAX(id) 이후로 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements InitializingBean {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private static final List<SequenceTable> SEQUENCE_TABLES = List.of(
+            new SequenceTable("transactions", "transactions_seq"),
+            new SequenceTable("daily_user_totals", "daily_user_totals_seq")
+    );
+
+    private final DataSource dataSource;
+
+    private record SequenceTable(String table, String sequence) {
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+            boolean postgres = product.contains("postgresql");
+            if (!postgres && !product.contains("h2")) {
+                // 시퀀스를 지원하지 않는 DB 는 Hibernate 의 테이블 기반 시퀀스에 맡긴다
+                return;
+            }
+            for (SequenceTable sequenceTable : SEQUENCE_TABLES) {
+                if (tableExists(connection.getMetaData(), sequenceTable.table())) {
+                    align(connection, sequenceTable, postgres);
+                }
+            }
+        }
+    }
+
+    private void align(Connection connection, SequenceTable sequenceTable, boolean postgres) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SEQUENCE IF NOT EXISTS " + sequenceTable.sequence()
+                    + " START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+
+            long maxId = queryLong(statement, "SELECT COALESCE(MAX(id), 0) FROM " + sequenceTable.table());
+            long nextValue = queryLong(statement, postgres
+                    ? "SELECT nextval('" + sequenceTable.sequence() + "')"
+                    : "SELECT NEXT VALUE FOR " + sequenceTable.sequence());
+
+            // pooled 최적화기는 시퀀스 값 v 에 대해 (v - ALLOCATION_SIZE, v] 구간의 id 를 사용한다
+            if (nextValue - ALLOCATION_SIZE < maxId) {
+                long restartWith = maxId + ALLOCATION_SIZE;
+                statement.execute("ALTER SEQUENCE " + sequenceTable.sequence() + " RESTART WITH " + restartWith);
+                log.info("Aligned sequence {} to {} (max id of {} is {})",
+                        sequenceTable.sequence(), restartWith, sequenceTable.table(), maxId);
+            }
+        }
+    }
+
+    private boolean tableExists(DatabaseMetaData metaData, String table) throws SQLException {
+        for (String name : new String[]{table, table.toUpperCase(Locale.ROOT)}) {
+            try (ResultSet tables = metaData.getTables(null, null, name, new String[]{"TABLE"})) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private long queryLong(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.financialledge.common.database;
+
+import org.springframework.boot.sql.init.dependency.AbstractBeansOfTypeDatabaseInitializerDetector;
+
+import java.util.Set;
+
+/**
+ * IdSequenceInitializer 를 데이터베이스 초기화 빈으로 등록하여
+ * EntityManagerFactory 가 시퀀스 정렬 이후에 생성되도록 한다 (META-INF/spring.factories).
+ */
+public class IdSequenceInitializerDetector extends AbstractBeansOfTypeDatabaseInitializerDetector {
+
+    @Override
+    protected Set<Class<?>> getDatabaseInitializerBeanTypes() {
+        return Set.of(IdSequenceInitializer.class);
+    }
+}
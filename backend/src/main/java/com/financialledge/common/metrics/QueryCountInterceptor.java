@@ -0,0 +1,43 @@
+package com.financialledge.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청마다 실행된 SQL 문 수를 hibernate.request.queries 로 기록한다 (N+1 탐지용).
+ * StreamingResponseBody 처럼 다른 스레드에서 실행되는 쿼리는 포함되지 않는다.
+ */
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    static final String METRIC_NAME = "hibernate.request.queries";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCountStatementInspector.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        long queries = QueryCountStatementInspector.stop();
+        if (queries < 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .register(meterRegistry)
+                .record(queries);
+    }
+}
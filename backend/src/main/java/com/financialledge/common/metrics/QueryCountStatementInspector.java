@@ -0,0 +1,32 @@
+package com.financialledge.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 현재 스레드에서 Hibernate 가 준비한 SQL 문 수를 센다.
+ * 요청 단위 집계는 {@link QueryCountInterceptor} 가 담당한다.
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        long[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    static void start() {
+        COUNTER.set(new long[1]);
+    }
+
+    // 집계 중이 아니면 -1
+    static long stop() {
+        long[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter[0] : -1;
+    }
+}
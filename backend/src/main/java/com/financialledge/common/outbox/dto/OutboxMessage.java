@@ -0,0 +1,31 @@
+package com.financialledge.common.outbox.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.financialledge.common.outbox.entity.OutboxEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessage {
+    private Long id;
+    private String aggregateType;
+    private Long aggregateId;
+    // 같은 집계 안에서 커밋 순서. 소비자는 이미 본 버전 이하를 버린다
+    private Long aggregateVersion;
+    private String eventType;
+    private Long userId;
+    // JSON 문자열을 그대로 출력
+    @JsonRawValue
+    private String payload;
+    private LocalDateTime createdAt;
+
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getAggregateVersion(), event.getEventType(), event.getUserId(), event.getPayload(), event.getCreatedAt());
+    }
+}
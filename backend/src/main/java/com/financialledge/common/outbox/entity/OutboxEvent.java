@@ -0,0 +1,57 @@
+package com.financialledge.common.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스. 도메인 변경과 같은 DB 트랜잭션에서 기록되고 OutboxRelay 가 전달한 뒤 삭제한다.
+ * id 는 중복 제거용 키일 뿐 커밋 순서가 아니다 (pooled 시퀀스는 인스턴스마다 다른 구간을 미리 받는다).
+ * 순서는 aggregateVersion: 같은 집계의 이벤트끼리 커밋 순서대로 1, 2, 3 ... 이 붙는다.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    // 대량 가져오기에서 INSERT 배치가 가능하도록 pooled 시퀀스 사용 (순서는 aggregateVersion 으로 판단)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "aggregate_version", nullable = false)
+    private Long aggregateVersion;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
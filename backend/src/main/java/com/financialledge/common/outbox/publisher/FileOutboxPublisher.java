@@ -0,0 +1,54 @@
+package com.financialledge.common.outbox.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financialledge.common.outbox.dto.OutboxMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메시지를 NDJSON 으로 파일에 이어 쓴다. 배치 단위로 한 번 열고 닫는다.
+ * 파일 I/O 중 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock 을 쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "file")
+public class FileOutboxPublisher implements OutboxPublisher {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileOutboxPublisher(ObjectMapper objectMapper,
+                               @Value("${outbox.file.path:outbox/events.ndjson}") String path) {
+        this.objectMapper = objectMapper;
+        this.path = Path.of(path);
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) throws IOException {
+        lock.lock();
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (OutboxMessage message : messages) {
+                    writer.write(objectMapper.writeValueAsString(message));
+                    writer.newLine();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
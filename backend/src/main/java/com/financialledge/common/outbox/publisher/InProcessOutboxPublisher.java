@@ -0,0 +1,25 @@
+package com.financialledge.common.outbox.publisher;
+
+import com.financialledge.common.outbox.dto.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 같은 프로세스의 @EventListener(OutboxMessage) 로 전달. 로컬 개발/테스트용 기본값.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "in-process", matchIfMissing = true)
+public class InProcessOutboxPublisher implements OutboxPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,14 @@
+package com.financialledge.common.outbox.publisher;
+
+import com.financialledge.common.outbox.dto.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * 아웃박스 메시지 전달 대상. 예외를 던지면 배치 전체가 남아 다음 주기에 다시 전달된다 (at-least-once).
+ * 예외 전에 일부 메시지를 이미 내보냈더라도 그 메시지까지 다시 온다.
+ */
+public interface OutboxPublisher {
+
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
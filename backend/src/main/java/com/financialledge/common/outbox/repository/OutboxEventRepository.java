@@ -0,0 +1,54 @@
+package com.financialledge.common.outbox.repository;
+
+import com.financialledge.common.outbox.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 다른 인스턴스의 relay 가 잡고 있는 행은 건너뛴다 (lock.timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e ORDER BY e.id")
+    List<OutboxEvent> findNextBatch(Limit limit);
+
+    // 집계 버전 카운터 (outbox_aggregate_versions). 생성 때는 행이 없고 버전 1 로 간주한다
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox_aggregate_versions"))
+    @Query(value = "INSERT INTO outbox_aggregate_versions (aggregate_type, aggregate_id, version) " +
+            "VALUES (:aggregateType, :aggregateId, 1) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertVersionIfAbsent(String aggregateType, Long aggregateId);
+
+    // 행 락을 커밋까지 잡으므로 같은 집계의 다음 변경은 이 트랜잭션이 끝난 뒤에 번호를 받는다
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox_aggregate_versions"))
+    @Query(value = "UPDATE outbox_aggregate_versions SET version = version + 1 " +
+            "WHERE aggregate_type = :aggregateType AND aggregate_id = :aggregateId",
+            nativeQuery = true)
+    int incrementVersion(String aggregateType, Long aggregateId);
+
+    @Query(value = "SELECT version FROM outbox_aggregate_versions " +
+            "WHERE aggregate_type = :aggregateType AND aggregate_id = :aggregateId",
+            nativeQuery = true)
+    long findVersion(String aggregateType, Long aggregateId);
+
+    // 삭제된 집계는 더 이상 이벤트가 없으므로 카운터를 지운다
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox_aggregate_versions"))
+    @Query(value = "DELETE FROM outbox_aggregate_versions " +
+            "WHERE aggregate_type = :aggregateType AND aggregate_id = :aggregateId",
+            nativeQuery = true)
+    int deleteVersion(String aggregateType, Long aggregateId);
+}
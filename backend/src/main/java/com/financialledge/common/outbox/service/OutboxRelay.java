@@ -0,0 +1,79 @@
+package com.financialledge.common.outbox.service;
+
+import com.financialledge.common.outbox.dto.OutboxMessage;
+import com.financialledge.common.outbox.entity.OutboxEvent;
+import com.financialledge.common.outbox.publisher.OutboxPublisher;
+import com.financialledge.common.outbox.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 아웃박스를 배치 단위로 읽어 퍼블리셔에 전달하고, 전달된 배치를 한 번의 DELETE 로 지운다.
+ *
+ * 전달은 at-least-once 다. 퍼블리셔 호출은 DB 트랜잭션 안에서 일어나고 삭제는 그 뒤에 커밋되므로,
+ * 배치 도중 퍼블리셔가 실패하거나(앞의 메시지/앞의 퍼블리셔는 이미 전달됨) 삭제 커밋이 실패하면
+ * 배치 전체가 남아 다음 주기에 처음부터 다시 전달된다. 소비자는 id 로 중복을 걸러야 한다.
+ *
+ * 배치는 id 순서로 읽지만 id 는 커밋 순서가 아니다 (pooled 시퀀스, 늦게 커밋된 작은 id,
+ * SKIP LOCKED 로 다른 인스턴스가 앞 배치를 잡고 있는 경우). 순서가 필요한 소비자는
+ * 같은 집계 안에서 aggregateVersion 으로 판단하고, 이미 처리한 버전 이하는 버린다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxPublisher> publishers;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxPublisher> publishers,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.publishers = publishers;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:1000}")
+    public void relay() {
+        try {
+            // 한 주기에 쌓인 만큼 비운다
+            while (relayBatch() == batchSize) {
+                // 다음 배치
+            }
+        } catch (Exception e) {
+            log.warn("Outbox relay failed, will retry", e);
+        }
+    }
+
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.findNextBatch(Limit.of(batchSize));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            List<OutboxMessage> messages = events.stream().map(OutboxMessage::from).toList();
+            for (OutboxPublisher publisher : publishers) {
+                try {
+                    publisher.publish(messages);
+                } catch (Exception e) {
+                    throw new RuntimeException("Outbox publisher " + publisher.getClass().getSimpleName() + " failed", e);
+                }
+            }
+            outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+            return events.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+}
@@ -0,0 +1,59 @@
+package com.financialledge.common.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financialledge.common.outbox.entity.OutboxEvent;
+import com.financialledge.common.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 기록. 반드시 도메인 변경과 같은 트랜잭션 안에서 호출한다.
+ * 이벤트마다 집계별 버전을 붙인다: CREATED 는 1, 이후 변경은 카운터 행을 올려 받는다.
+ * 카운터 UPDATE 의 행 락이 커밋까지 유지되므로 같은 집계의 버전은 커밋 순서와 같다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxService {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public void append(String aggregateType, Long aggregateId, String eventType, Long userId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not serialize outbox payload", e);
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .aggregateVersion(nextVersion(aggregateType, aggregateId, eventType))
+                .eventType(eventType)
+                .userId(userId)
+                .payload(json)
+                .build());
+    }
+
+    // 대량 가져오기의 생성 이벤트는 추가 쿼리 없이 버전 1
+    private long nextVersion(String aggregateType, Long aggregateId, String eventType) {
+        if (CREATED.equals(eventType)) {
+            return 1;
+        }
+        outboxEventRepository.insertVersionIfAbsent(aggregateType, aggregateId);
+        outboxEventRepository.incrementVersion(aggregateType, aggregateId);
+        long version = outboxEventRepository.findVersion(aggregateType, aggregateId);
+        if (DELETED.equals(eventType)) {
+            outboxEventRepository.deleteVersion(aggregateType, aggregateId);
+        }
+        return version;
+    }
+}
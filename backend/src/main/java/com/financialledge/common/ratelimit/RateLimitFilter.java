@@ -0,0 +1,100 @@
+package com.financialledge.common.ratelimit;
+
+import com.financialledge.auth.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /api 요청 속도 제한. JwtAuthenticationFilter 다음에 실행되어 인증된 요청은 사용자별로 센다.
+ * - /api/auth/**: IP 별 (로그인/가입은 BCrypt 때문에 비싸다)
+ * - 그 외 /api/**: 로그인 사용자는 사용자 id 별, 아니면 IP 별
+ * 한도를 넘으면 429 와 Retry-After(초)로 응답한다.
+ * IP 는 getRemoteAddr() 기준이라 프록시 뒤에서는 server.forward-headers-strategy 설정이 필요하다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final RateLimiter<String> authLimiter;
+    private final RateLimiter<Long> userLimiter;
+    private final RateLimiter<String> ipLimiter;
+    private final Counter authRejected;
+    private final Counter apiRejected;
+
+    public RateLimitFilter(MeterRegistry meterRegistry,
+                           @Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.max-keys:100000}") long maxKeys,
+                           @Value("${rate-limit.auth.capacity:10}") int authCapacity,
+                           @Value("${rate-limit.auth.period:1m}") Duration authPeriod,
+                           @Value("${rate-limit.api.capacity:100}") int apiCapacity,
+                           @Value("${rate-limit.api.period:10s}") Duration apiPeriod) {
+        this.enabled = enabled;
+        this.authLimiter = new RateLimiter<>(authCapacity, authPeriod, maxKeys);
+        this.userLimiter = new RateLimiter<>(apiCapacity, apiPeriod, maxKeys);
+        this.ipLimiter = new RateLimiter<>(apiCapacity, apiPeriod, maxKeys);
+        this.authRejected = rejectedCounter(meterRegistry, "auth");
+        this.apiRejected = rejectedCounter(meterRegistry, "api");
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String policy) {
+        return Counter.builder("rate.limit.rejected")
+                .description("Requests rejected with 429 by the rate limiter")
+                .tag("policy", policy)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !enabled || !uri.startsWith("/api/") || uri.equals("/api/health");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long waitNanos;
+        Counter rejected;
+        if (request.getRequestURI().startsWith("/api/auth/")) {
+            waitNanos = authLimiter.tryAcquire(request.getRemoteAddr());
+            rejected = authRejected;
+        } else {
+            Long userId = currentUserId();
+            waitNanos = userId != null
+                    ? userLimiter.tryAcquire(userId)
+                    : ipLimiter.tryAcquire(request.getRemoteAddr());
+            rejected = apiRejected;
+        }
+
+        if (waitNanos > 0) {
+            rejected.increment();
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
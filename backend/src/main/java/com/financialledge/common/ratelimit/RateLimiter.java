@@ -0,0 +1,34 @@
+package com.financialledge.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 키(사용자 id, IP)별 토큰 버킷. period 동안 capacity 개를 허용하고 한 번에 capacity 개까지 몰아 쓸 수 있다.
+ * 버킷은 크기 제한이 있는 Caffeine 캐시에 두며, period 동안 안 쓰면 어차피 가득 찬 상태라 그때 버린다.
+ */
+public class RateLimiter<K> {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final Cache<K, TokenBucket> buckets;
+
+    public RateLimiter(int capacity, Duration period, long maxKeys) {
+        this.intervalNanos = period.toNanos() / capacity;
+        this.burstNanos = intervalNanos * capacity;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(period)
+                .build();
+    }
+
+    /**
+     * @return 0 이면 허용, 아니면 다시 시도할 수 있을 때까지의 시간(ns)
+     */
+    public long tryAcquire(K key) {
+        long now = System.nanoTime();
+        return buckets.get(key, k -> new TokenBucket(now)).tryConsume(now, intervalNanos, burstNanos);
+    }
+}
@@ -0,0 +1,35 @@
+package com.financialledge.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷. 상태는 "다음 토큰이 차는 이론상 시각" 하나(GCRA)라 AtomicLong CAS 한 번으로 소비한다.
+ * 토큰 하나가 interval 마다 차고, 최대 burst / interval 개까지 쌓인다.
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long now) {
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰 하나를 소비한다.
+     *
+     * @return 0 이면 허용, 아니면 다음 토큰까지 기다려야 하는 시간(ns)
+     */
+    long tryConsume(long now, long intervalNanos, long burstNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
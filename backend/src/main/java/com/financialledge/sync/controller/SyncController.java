@@ -0,0 +1,37 @@
+package com.financialledge.sync.controller;
+
+import com.financialledge.auth.service.CurrentUserService;
+import com.financialledge.sync.dto.SyncResponse;
+import com.financialledge.sync.service.SyncService;
+import com.financialledge.sync.service.SyncUnavailableException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+    private final CurrentUserService currentUserService;
+
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        Long userId = currentUserService.getCurrentUserId();
+        try {
+            return ResponseEntity.ok(syncService.getChanges(userId, since, limit));
+        } catch (SyncUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.financialledge.sync.dto;
+
+import com.financialledge.account.entity.Account;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncAccount {
+    private Long id;
+    private String name;
+    private Account.AccountType accountType;
+    private BigDecimal balance;
+    private String currency;
+    private String description;
+    private Boolean isActive;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.financialledge.sync.dto;
+
+import com.financialledge.budget.entity.Budget;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncBudget {
+    private Long id;
+    private Long categoryId;
+    private Long accountId;
+    private BigDecimal amount;
+    private Budget.PeriodType periodType;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Boolean isActive;
+    private LocalDateTime updatedAt;
+}
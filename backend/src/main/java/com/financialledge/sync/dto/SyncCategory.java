@@ -0,0 +1,22 @@
+package com.financialledge.sync.dto;
+
+import com.financialledge.category.entity.Category;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncCategory {
+    private Long id;
+    private String name;
+    private String description;
+    private String color;
+    private String icon;
+    private Long parentId;
+    private Category.TransactionType transactionType;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,17 @@
+package com.financialledge.sync.dto;
+
+import com.financialledge.sync.entity.SyncTombstone;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncDeletion {
+    private SyncTombstone.EntityType entityType;
+    private Long id;
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,26 @@
+package com.financialledge.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncResponse {
+    // true 면 클라이언트는 로컬 데이터를 이 응답(과 이어지는 페이지)으로 통째로 교체한다
+    private boolean fullSync;
+    private List<SyncTransaction> transactions;
+    private List<SyncCategory> categories;
+    private List<SyncAccount> accounts;
+    private List<SyncBudget> budgets;
+    private List<SyncTag> tags;
+    private List<SyncDeletion> deleted;
+    // true 면 nextToken 으로 바로 다음 페이지를 요청한다
+    private boolean hasMore;
+    private String nextToken;
+}
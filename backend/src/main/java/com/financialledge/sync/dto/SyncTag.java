@@ -0,0 +1,17 @@
+package com.financialledge.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncTag {
+    private Long id;
+    private String name;
+    private String color;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,63 @@
+package com.financialledge.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 동기화 토큰. since 이후 until 이하로 변경된 데이터를 가리키며, 거래가 한 페이지를 넘으면
+ * 마지막으로 보낸 거래의 (updatedAt, id) 를 이어받는다.
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 문자열로만 노출된다.
+ */
+@Data
+@AllArgsConstructor
+public class SyncToken {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    // null 이면 전체 동기화
+    private LocalDateTime since;
+    // 이어받는 페이지에서만 값이 있음
+    private LocalDateTime until;
+    private LocalDateTime afterUpdatedAt;
+    private Long afterId;
+
+    public boolean isContinuation() {
+        return afterId != null;
+    }
+
+    public static SyncToken after(LocalDateTime watermark) {
+        return new SyncToken(watermark, null, null, null);
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, text(since), text(until), text(afterUpdatedAt), text(afterId));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException();
+            }
+            return new SyncToken(
+                    parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]),
+                    parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]),
+                    parts[3].isEmpty() ? null : LocalDateTime.parse(parts[3]),
+                    parts[4].isEmpty() ? null : Long.valueOf(parts[4]));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid sync token");
+        }
+    }
+
+    private static String text(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
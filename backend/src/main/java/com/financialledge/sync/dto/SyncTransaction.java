@@ -0,0 +1,27 @@
+package com.financialledge.sync.dto;
+
+import com.financialledge.transaction.entity.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncTransaction {
+    private Long id;
+    private LocalDate transactionDate;
+    private String description;
+    private BigDecimal amount;
+    private Transaction.TransactionType transactionType;
+    private Long categoryId;
+    private Long accountId;
+    private Long targetAccountId;
+    private String notes;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,46 @@
+package com.financialledge.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 기록(tombstone). 동기화 클라이언트가 삭제를 알 수 있도록 원본 행 삭제 시 같은 트랜잭션에서 남긴다.
+ * user_id 가 null 이면 모든 사용자에게 보이는 공용 데이터(카테고리, 계좌)다.
+ */
+@Entity
+@Table(name = "sync_tombstones", indexes = {
+    @Index(name = "idx_sync_tombstones_deleted_at", columnList = "deleted_at"),
+    @Index(name = "idx_sync_tombstones_user_deleted_at", columnList = "user_id, deleted_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "entity_type", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public enum EntityType {
+        TRANSACTION, CATEGORY, ACCOUNT, BUDGET, TAG
+    }
+}
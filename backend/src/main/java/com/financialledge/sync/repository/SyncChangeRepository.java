@@ -0,0 +1,85 @@
+package com.financialledge.sync.repository;
+
+import com.financialledge.sync.dto.SyncAccount;
+import com.financialledge.sync.dto.SyncBudget;
+import com.financialledge.sync.dto.SyncCategory;
+import com.financialledge.sync.dto.SyncTag;
+import com.financialledge.sync.dto.SyncTransaction;
+import com.financialledge.transaction.entity.Transaction;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 동기화용 변경분 조회. 엔티티 대신 평면 DTO 로 바로 조회해 연관 로딩 없이 한 쿼리로 끝낸다.
+ * 구간은 since &lt; updatedAt &lt;= until.
+ */
+public interface SyncChangeRepository extends Repository<Transaction, Long> {
+
+    // (updatedAt, id) 키셋 페이징
+    @Query("SELECT new com.financialledge.sync.dto.SyncTransaction(t.id, t.transactionDate, t.description, " +
+           "t.amount, t.transactionType, t.category.id, t.account.id, t.targetAccount.id, t.notes, " +
+           "t.createdAt, t.updatedAt) " +
+           "FROM Transaction t " +
+           "WHERE t.userId = :userId AND t.updatedAt <= :until " +
+           "AND (t.updatedAt > :afterUpdatedAt OR (t.updatedAt = :afterUpdatedAt AND t.id > :afterId)) " +
+           "ORDER BY t.updatedAt, t.id")
+    List<SyncTransaction> findTransactions(@Param("userId") Long userId,
+                                           @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+                                           @Param("afterId") Long afterId,
+                                           @Param("until") LocalDateTime until,
+                                           Limit limit);
+
+    @Query("SELECT new com.financialledge.sync.dto.SyncCategory(c.id, c.name, c.description, c.color, c.icon, " +
+           "c.parent.id, c.transactionType, COALESCE(c.updatedAt, c.createdAt)) " +
+           "FROM Category c " +
+           "WHERE COALESCE(c.updatedAt, c.createdAt) > :since AND COALESCE(c.updatedAt, c.createdAt) <= :until " +
+           "ORDER BY c.id")
+    List<SyncCategory> findCategories(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until);
+
+    @Query("SELECT new com.financialledge.sync.dto.SyncAccount(a.id, a.name, a.accountType, a.balance, " +
+           "a.currency, a.description, a.isActive, COALESCE(a.updatedAt, a.createdAt)) " +
+           "FROM Account a " +
+           "WHERE COALESCE(a.updatedAt, a.createdAt) > :since AND COALESCE(a.updatedAt, a.createdAt) <= :until " +
+           "ORDER BY a.id")
+    List<SyncAccount> findAccounts(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until);
+
+    @Query("SELECT new com.financialledge.sync.dto.SyncBudget(b.id, b.category.id, b.account.id, b.amount, " +
+           "b.periodType, b.startDate, b.endDate, b.isActive, COALESCE(b.updatedAt, b.createdAt)) " +
+           "FROM Budget b " +
+           "WHERE b.userId = :userId " +
+           "AND COALESCE(b.updatedAt, b.createdAt) > :since AND COALESCE(b.updatedAt, b.createdAt) <= :until " +
+           "ORDER BY b.id")
+    List<SyncBudget> findBudgets(@Param("userId") Long userId,
+                                 @Param("since") LocalDateTime since,
+                                 @Param("until") LocalDateTime until);
+
+    @Query("SELECT new com.financialledge.sync.dto.SyncTag(g.id, g.name, g.color, COALESCE(g.updatedAt, g.createdAt)) " +
+           "FROM Tag g " +
+           "WHERE g.userId = :userId " +
+           "AND COALESCE(g.updatedAt, g.createdAt) > :since AND COALESCE(g.updatedAt, g.createdAt) <= :until " +
+           "ORDER BY g.id")
+    List<SyncTag> findTags(@Param("userId") Long userId,
+                           @Param("since") LocalDateTime since,
+                           @Param("until") LocalDateTime until);
+
+    // 동기화 상한 (PostgreSQL): 다른 클라이언트 세션의 열린 트랜잭션 중 가장 오래된 시작 시각, 없으면 DB 현재 시각.
+    // updatedAt 은 트리거가 statement_timestamp() 로 찍으므로(V16) 시작 시각 이후이고, 이 시각 이하 구간은 더 이상 바뀌지 않는다.
+    // 권한(pg_read_all_stats)이 없어 시작 시각이 보이지 않는 다른 역할의 세션이 있으면 판단할 수 없으므로 NULL.
+    // 슈퍼유저 세션(autovacuum 등)은 제외한다
+    @Query(value = "SELECT CASE WHEN COUNT(*) FILTER (WHERE a.state IS NULL AND NOT COALESCE(r.rolsuper, true)) > 0 THEN NULL " +
+           "ELSE CAST(LEAST(statement_timestamp(), COALESCE(MIN(a.xact_start), statement_timestamp())) AS timestamp) END " +
+           "FROM pg_stat_activity a LEFT JOIN pg_roles r ON r.oid = a.usesysid " +
+           "WHERE a.datname = current_database() AND a.pid <> pg_backend_pid() " +
+           "AND (a.backend_type = 'client backend' OR a.state IS NULL)",
+           nativeQuery = true)
+    LocalDateTime findOpenTransactionWatermark();
+
+    // 그 밖의 DB: 열린 트랜잭션을 알 수 없어 DB 현재 시각만 쓴다 (updatedAt 은 애플리케이션 시계)
+    @Query(value = "SELECT LOCALTIMESTAMP", nativeQuery = true)
+    LocalDateTime findDatabaseTime();
+}
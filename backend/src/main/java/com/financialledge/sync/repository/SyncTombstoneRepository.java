@@ -0,0 +1,30 @@
+package com.financialledge.sync.repository;
+
+import com.financialledge.sync.dto.SyncDeletion;
+import com.financialledge.sync.entity.SyncTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    // 본인 데이터와 공용 데이터(user_id null)의 삭제 기록
+    @Query("SELECT new com.financialledge.sync.dto.SyncDeletion(t.entityType, t.entityId, t.deletedAt) " +
+           "FROM SyncTombstone t " +
+           "WHERE (t.userId = :userId OR t.userId IS NULL) " +
+           "AND t.deletedAt > :since AND t.deletedAt <= :until " +
+           "ORDER BY t.deletedAt, t.id")
+    List<SyncDeletion> findDeletions(@Param("userId") Long userId,
+                                     @Param("since") LocalDateTime since,
+                                     @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("DELETE FROM SyncTombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,138 @@
+package com.financialledge.sync.service;
+
+import com.financialledge.sync.dto.SyncResponse;
+import com.financialledge.sync.dto.SyncToken;
+import com.financialledge.sync.dto.SyncTransaction;
+import com.financialledge.sync.repository.SyncChangeRepository;
+import com.financialledge.sync.repository.SyncTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 모바일 증분 동기화. 토큰 이후 생성/수정/삭제된 데이터만 돌려준다.
+ * <p>
+ * 상한(until)은 아직 커밋되지 않은 변경보다 앞이어야 한다. 상한은 DB 에서 읽는다.
+ * PostgreSQL 은 updatedAt/deletedAt 을 트리거가 statement_timestamp() 로 찍으므로(V16) 상한을 열린 트랜잭션 중
+ * 가장 오래된 시작 시각(없으면 DB 현재 시각)으로 잡으면 커밋이 얼마나 늦든 빠지는 변경이 없다.
+ * 시작 시각이 보이지 않는 세션이 있으면(pg_read_all_stats 없음) 상한을 정할 수 없어 {@link SyncUnavailableException} 으로 거절한다.
+ * 그 밖의 DB 는 DB 현재 시각에서 clock-skew-allowance 를 뺀 값이며, updatedAt 을 애플리케이션 시계로 찍으므로
+ * 애플리케이션 시계가 allowance 이상 늦지 않고 트랜잭션이 allowance 안에 커밋된다고 가정한다.
+ * 거래는 (updatedAt, id) 키셋으로 나눠 보내고, 나머지(카테고리/계좌/예산/태그/삭제)는 첫 페이지에만 담는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+public class SyncService implements InitializingBean {
+
+    public static final int DEFAULT_PAGE_SIZE = 500;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SyncChangeRepository syncChangeRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final SyncTombstoneService syncTombstoneService;
+    private final DataSource dataSource;
+    private final Duration clockSkewAllowance;
+
+    // PostgreSQL 이면 열린 트랜잭션 기준 상한 (DB 가 찍은 updatedAt)
+    private boolean openTransactionWatermark;
+
+    public SyncService(SyncChangeRepository syncChangeRepository,
+                       SyncTombstoneRepository syncTombstoneRepository,
+                       SyncTombstoneService syncTombstoneService,
+                       DataSource dataSource,
+                       @Value("${sync.clock-skew-allowance:5s}") Duration clockSkewAllowance) {
+        this.syncChangeRepository = syncChangeRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.syncTombstoneService = syncTombstoneService;
+        this.dataSource = dataSource;
+        this.clockSkewAllowance = clockSkewAllowance;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+            openTransactionWatermark = product.contains("postgresql");
+        }
+        if (!openTransactionWatermark) {
+            log.info("Sync watermark uses the database clock only (open transactions are not visible on this database)");
+        }
+    }
+
+    public SyncResponse getChanges(Long userId, String token, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+
+        SyncToken current = token == null || token.isBlank() ? SyncToken.after(null) : SyncToken.decode(token);
+        // 삭제 기록 보관 기간보다 오래된 토큰은 전체 동기화로 되돌린다
+        if (current.getSince() != null && current.getSince().isBefore(syncTombstoneService.retainedSince(now))) {
+            current = SyncToken.after(null);
+        }
+        boolean fullSync = current.getSince() == null;
+        LocalDateTime since = fullSync ? BEGINNING : current.getSince();
+        LocalDateTime until = current.isContinuation() ? current.getUntil() : watermark();
+        if (until.isBefore(since)) {
+            until = since;
+        }
+
+        List<SyncTransaction> rows = current.isContinuation()
+                ? syncChangeRepository.findTransactions(userId, current.getAfterUpdatedAt(), current.getAfterId(),
+                        until, Limit.of(pageSize + 1))
+                : syncChangeRepository.findTransactions(userId, since, Long.MAX_VALUE, until, Limit.of(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<SyncTransaction> transactions = hasMore ? rows.subList(0, pageSize) : rows;
+
+        SyncResponse.SyncResponseBuilder response = SyncResponse.builder()
+                .fullSync(fullSync)
+                .transactions(transactions)
+                .hasMore(hasMore);
+
+        if (current.isContinuation()) {
+            response.categories(List.of()).accounts(List.of()).budgets(List.of()).tags(List.of()).deleted(List.of());
+        } else {
+            response.categories(syncChangeRepository.findCategories(since, until))
+                    .accounts(syncChangeRepository.findAccounts(since, until))
+                    .budgets(syncChangeRepository.findBudgets(userId, since, until))
+                    .tags(syncChangeRepository.findTags(userId, since, until))
+                    // 전체 동기화는 현재 상태를 그대로 받으므로 삭제 기록이 필요 없다
+                    .deleted(fullSync ? List.of() : syncTombstoneRepository.findDeletions(userId, since, until));
+        }
+
+        SyncToken next;
+        if (hasMore) {
+            SyncTransaction last = transactions.get(transactions.size() - 1);
+            next = new SyncToken(current.getSince(), until, last.getUpdatedAt(), last.getId());
+        } else {
+            next = SyncToken.after(until);
+        }
+        return response.nextToken(next.encode()).build();
+    }
+
+    private LocalDateTime watermark() {
+        if (!openTransactionWatermark) {
+            return syncChangeRepository.findDatabaseTime().minus(clockSkewAllowance);
+        }
+        LocalDateTime watermark = syncChangeRepository.findOpenTransactionWatermark();
+        if (watermark == null) {
+            log.warn("Sync watermark unavailable: other sessions' transaction start is not visible (grant pg_read_all_stats)");
+            throw new SyncUnavailableException();
+        }
+        // 시작 시각과 같은 시각으로 찍힐 변경이 아직 열려 있을 수 있으므로 그보다 바로 앞까지
+        return watermark.minusNanos(1_000);
+    }
+}
@@ -0,0 +1,63 @@
+package com.financialledge.sync.service;
+
+import com.financialledge.sync.entity.SyncTombstone;
+import com.financialledge.sync.repository.SyncTombstoneRepository;
+import com.financialledge.transaction.event.TransactionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 기록 관리. 원본 삭제와 같은 트랜잭션에서 기록해야 동기화 클라이언트가 삭제를 놓치지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncTombstoneService {
+
+    private final SyncTombstoneRepository syncTombstoneRepository;
+
+    @Value("${sync.tombstone-retention-days:90}")
+    private int retentionDays;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(SyncTombstone.EntityType entityType, Long entityId, Long userId) {
+        syncTombstoneRepository.save(SyncTombstone.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .userId(userId)
+                .deletedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        if (event.after() == null) {
+            record(SyncTombstone.EntityType.TRANSACTION, event.transactionId(), event.userId());
+        }
+    }
+
+    /**
+     * 이 시각보다 오래된 토큰은 삭제 기록이 이미 지워졌을 수 있으므로 전체 동기화가 필요하다.
+     */
+    public LocalDateTime retainedSince(LocalDateTime now) {
+        return now.minusDays(retentionDays);
+    }
+
+    @Scheduled(cron = "${sync.tombstone-purge.cron:0 0 4 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = syncTombstoneRepository.deleteOlderThan(retainedSince(LocalDateTime.now()));
+        if (deleted > 0) {
+            log.info("Purged {} expired sync tombstones", deleted);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.financialledge.sync.service;
+
+/**
+ * 동기화 상한을 안전하게 정할 수 없음 (503). 빠지는 변경이 생기지 않도록 토큰을 내주지 않고 거절한다.
+ */
+public class SyncUnavailableException extends RuntimeException {
+
+    public SyncUnavailableException() {
+        super("Sync watermark is not available");
+    }
+}
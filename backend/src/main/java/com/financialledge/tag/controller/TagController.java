@@ -1,13 +1,12 @@
 package com.financialledge.tag.controller;
 
-import com.financialledge.auth.repository.UserRepository;
+import com.financialledge.auth.service.CurrentUserService;
+import com.financialledge.tag.dto.TagResponse;
 import com.financialledge.tag.entity.Tag;
 import com.financialledge.tag.service.TagService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,52 +17,41 @@ import java.util.List;
 public class TagController {
 
     private final TagService tagService;
-    private final UserRepository userRepository;
-
-    private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new RuntimeException("User not authenticated");
-        }
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"))
-                .getId();
-    }
+    private final CurrentUserService currentUserService;
 
     @GetMapping
-    public ResponseEntity<List<Tag>> getAllTags() {
-        Long userId = getCurrentUserId();
-        List<Tag> tags = tagService.getAllTags(userId);
+    public ResponseEntity<List<TagResponse>> getAllTags() {
+        Long userId = currentUserService.getCurrentUserId();
+        List<TagResponse> tags = tagService.getAllTags(userId);
         return ResponseEntity.ok(tags);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Tag> getTagById(@PathVariable Long id) {
-        Long userId = getCurrentUserId();
-        Tag tag = tagService.getTagById(id, userId);
+    public ResponseEntity<TagResponse> getTagById(@PathVariable Long id) {
+        Long userId = currentUserService.getCurrentUserId();
+        TagResponse tag = tagService.getTagById(id, userId);
         return ResponseEntity.ok(tag);
     }
 
     @PostMapping
-    public ResponseEntity<Tag> createTag(@RequestBody Tag tag) {
-        Long userId = getCurrentUserId();
-        Tag createdTag = tagService.createTag(tag, userId);
+    public ResponseEntity<TagResponse> createTag(@RequestBody Tag tag) {
+        Long userId = currentUserService.getCurrentUserId();
+        TagResponse createdTag = tagService.createTag(tag, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTag);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Tag> updateTag(
+    public ResponseEntity<TagResponse> updateTag(
             @PathVariable Long id,
             @RequestBody Tag tag) {
-        Long userId = getCurrentUserId();
-        Tag updatedTag = tagService.updateTag(id, tag, userId);
+        Long userId = currentUserService.getCurrentUserId();
+        TagResponse updatedTag = tagService.updateTag(id, tag, userId);
         return ResponseEntity.ok(updatedTag);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTag(@PathVariable Long id) {
-        Long userId = getCurrentUserId();
+        Long userId = currentUserService.getCurrentUserId();
         tagService.deleteTag(id, userId);
         return ResponseEntity.noContent().build();
     }
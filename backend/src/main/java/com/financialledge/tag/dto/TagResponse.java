@@ -0,0 +1,23 @@
+package com.financialledge.tag.dto;
+
+import com.financialledge.tag.entity.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagResponse {
+    private Long id;
+    private String name;
+    private String color;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static TagResponse from(Tag tag) {
+        return new TagResponse(tag.getId(), tag.getName(), tag.getColor(), tag.getCreatedAt(), tag.getUpdatedAt());
+    }
+}
@@ -34,8 +34,18 @@ public class Tag {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    // 동기화(/api/sync) 변경 감지용
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 }
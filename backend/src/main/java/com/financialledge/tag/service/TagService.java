@@ -1,5 +1,8 @@
 package com.financialledge.tag.service;
 
+import com.financialledge.sync.entity.SyncTombstone;
+import com.financialledge.sync.service.SyncTombstoneService;
+import com.financialledge.tag.dto.TagResponse;
 import com.financialledge.tag.entity.Tag;
 import com.financialledge.tag.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,32 +17,28 @@ import java.util.List;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final SyncTombstoneService syncTombstoneService;
 
-    public List<Tag> getAllTags(Long userId) {
-        return tagRepository.findByUserId(userId);
+    public List<TagResponse> getAllTags(Long userId) {
+        return tagRepository.findByUserId(userId).stream().map(TagResponse::from).toList();
     }
 
-    public Tag getTagById(Long id, Long userId) {
-        Tag tag = tagRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Tag not found with id: " + id));
-        if (!tag.getUserId().equals(userId)) {
-            throw new RuntimeException("Tag not found with id: " + id);
-        }
-        return tag;
+    public TagResponse getTagById(Long id, Long userId) {
+        return TagResponse.from(getOwnedTag(id, userId));
     }
 
     @Transactional
-    public Tag createTag(Tag tag, Long userId) {
+    public TagResponse createTag(Tag tag, Long userId) {
         if (tagRepository.existsByUserIdAndName(userId, tag.getName())) {
             throw new RuntimeException("Tag with name '" + tag.getName() + "' already exists");
         }
         tag.setUserId(userId);
-        return tagRepository.save(tag);
+        return TagResponse.from(tagRepository.save(tag));
     }
 
     @Transactional
-    public Tag updateTag(Long id, Tag tag, Long userId) {
-        Tag existingTag = getTagById(id, userId);
+    public TagResponse updateTag(Long id, Tag tag, Long userId) {
+        Tag existingTag = getOwnedTag(id, userId);
         // 이름이 변경되는 경우 중복 체크
         if (!existingTag.getName().equals(tag.getName()) && 
             tagRepository.existsByUserIdAndName(userId, tag.getName())) {
@@ -47,12 +46,22 @@ public class TagService {
         }
         existingTag.setName(tag.getName());
         existingTag.setColor(tag.getColor());
-        return tagRepository.save(existingTag);
+        return TagResponse.from(tagRepository.saveAndFlush(existingTag));
     }
 
     @Transactional
     public void deleteTag(Long id, Long userId) {
-        Tag tag = getTagById(id, userId);
+        Tag tag = getOwnedTag(id, userId);
         tagRepository.delete(tag);
+        syncTombstoneService.record(SyncTombstone.EntityType.TAG, id, userId);
+    }
+
+    private Tag getOwnedTag(Long id, Long userId) {
+        Tag tag = tagRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Tag not found with id: " + id));
+        if (!tag.getUserId().equals(userId)) {
+            throw new RuntimeException("Tag not found with id: " + id);
+        }
+        return tag;
     }
 }
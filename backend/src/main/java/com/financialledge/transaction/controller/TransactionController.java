@@ -1,15 +1,22 @@
 package com.financialledge.transaction.controller;
 
-import com.financialledge.auth.repository.UserRepository;
+import com.financialledge.auth.service.CurrentUserService;
+import com.financialledge.transaction.dto.TransactionPageResponse;
+import com.financialledge.transaction.dto.TransactionResponse;
 import com.financialledge.transaction.entity.Transaction;
+import com.financialledge.transaction.service.TransactionExportService;
+import com.financialledge.transaction.service.TransactionSearchService;
 import com.financialledge.transaction.service.TransactionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -18,76 +25,102 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
-    private final UserRepository userRepository;
-
-    private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new RuntimeException("User not authenticated");
-        }
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"))
-                .getId();
-    }
+    private final TransactionExportService transactionExportService;
+    private final TransactionSearchService transactionSearchService;
+    private final CurrentUserService currentUserService;
 
     @GetMapping
-    public ResponseEntity<List<Transaction>> getAllTransactions() {
-        Long userId = getCurrentUserId();
-        List<Transaction> transactions = transactionService.getAllTransactions(userId);
+    public ResponseEntity<List<TransactionResponse>> getAllTransactions() {
+        Long userId = currentUserService.getCurrentUserId();
+        List<TransactionResponse> transactions = transactionService.getAllTransactions(userId);
         return ResponseEntity.ok(transactions);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<TransactionPageResponse> getTransactionPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = currentUserService.getCurrentUserId();
+        TransactionPageResponse page = transactionService.getTransactionPage(userId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TransactionPageResponse> searchTransactions(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = currentUserService.getCurrentUserId();
+        TransactionPageResponse page = transactionSearchService.search(userId, q, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long userId = currentUserService.getCurrentUserId();
+        TransactionExportService.ExportFormat exportFormat = TransactionExportService.ExportFormat.of(format);
+        StreamingResponseBody body = outputStream ->
+                transactionExportService.export(userId, exportFormat, from, to, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Transaction> getTransactionById(@PathVariable Long id) {
-        Long userId = getCurrentUserId();
-        Transaction transaction = transactionService.getTransactionById(id, userId);
+    public ResponseEntity<TransactionResponse> getTransactionById(@PathVariable Long id) {
+        Long userId = currentUserService.getCurrentUserId();
+        TransactionResponse transaction = transactionService.getTransactionById(id, userId);
         return ResponseEntity.ok(transaction);
     }
 
     @GetMapping("/type/{type}")
-    public ResponseEntity<List<Transaction>> getTransactionsByType(
+    public ResponseEntity<List<TransactionResponse>> getTransactionsByType(
             @PathVariable Transaction.TransactionType type) {
-        Long userId = getCurrentUserId();
-        List<Transaction> transactions = transactionService.getTransactionsByType(userId, type);
+        Long userId = currentUserService.getCurrentUserId();
+        List<TransactionResponse> transactions = transactionService.getTransactionsByType(userId, type);
         return ResponseEntity.ok(transactions);
     }
 
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<Transaction>> getTransactionsByCategoryId(
+    public ResponseEntity<List<TransactionResponse>> getTransactionsByCategoryId(
             @PathVariable Long categoryId) {
-        Long userId = getCurrentUserId();
-        List<Transaction> transactions = transactionService.getTransactionsByCategoryId(userId, categoryId);
+        Long userId = currentUserService.getCurrentUserId();
+        List<TransactionResponse> transactions = transactionService.getTransactionsByCategoryId(userId, categoryId);
         return ResponseEntity.ok(transactions);
     }
 
     @GetMapping("/account/{accountId}")
-    public ResponseEntity<List<Transaction>> getTransactionsByAccountId(
+    public ResponseEntity<List<TransactionResponse>> getTransactionsByAccountId(
             @PathVariable Long accountId) {
-        Long userId = getCurrentUserId();
-        List<Transaction> transactions = transactionService.getTransactionsByAccountId(userId, accountId);
+        Long userId = currentUserService.getCurrentUserId();
+        List<TransactionResponse> transactions = transactionService.getTransactionsByAccountId(userId, accountId);
         return ResponseEntity.ok(transactions);
     }
 
     @PostMapping
-    public ResponseEntity<Transaction> createTransaction(@RequestBody Transaction transaction) {
-        Long userId = getCurrentUserId();
-        Transaction createdTransaction = transactionService.createTransaction(transaction, userId);
+    public ResponseEntity<TransactionResponse> createTransaction(@RequestBody Transaction transaction) {
+        Long userId = currentUserService.getCurrentUserId();
+        TransactionResponse createdTransaction = transactionService.createTransaction(transaction, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTransaction);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Transaction> updateTransaction(
+    public ResponseEntity<TransactionResponse> updateTransaction(
             @PathVariable Long id,
             @RequestBody Transaction transaction) {
-        Long userId = getCurrentUserId();
-        Transaction updatedTransaction = transactionService.updateTransaction(id, transaction, userId);
+        Long userId = currentUserService.getCurrentUserId();
+        TransactionResponse updatedTransaction = transactionService.updateTransaction(id, transaction, userId);
         return ResponseEntity.ok(updatedTransaction);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTransaction(@PathVariable Long id) {
-        Long userId = getCurrentUserId();
+        Long userId = currentUserService.getCurrentUserId();
         transactionService.deleteTransaction(id, userId);
         return ResponseEntity.noContent().build();
     }
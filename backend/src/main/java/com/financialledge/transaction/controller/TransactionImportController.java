@@ -0,0 +1,36 @@
+package com.financialledge.transaction.controller;
+
+import com.financialledge.auth.service.CurrentUserService;
+import com.financialledge.transaction.dto.ImportJobResponse;
+import com.financialledge.transaction.service.TransactionImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/transactions/import")
+@RequiredArgsConstructor
+public class TransactionImportController {
+
+    private final TransactionImportService transactionImportService;
+    private final CurrentUserService currentUserService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> startImport(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+        Long userId = currentUserService.getCurrentUserId();
+        ImportJobResponse job = transactionImportService.startImport(userId, file, format);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable String jobId) {
+        Long userId = currentUserService.getCurrentUserId();
+        ImportJobResponse job = transactionImportService.getImportJob(jobId, userId);
+        return ResponseEntity.ok(job);
+    }
+}
@@ -0,0 +1,93 @@
+package com.financialledge.transaction.controller;
+
+import com.financialledge.auth.service.CurrentUserService;
+import com.financialledge.category.dto.CategoryRollup;
+import com.financialledge.transaction.dto.CategoryTotal;
+import com.financialledge.transaction.dto.DailyTotal;
+import com.financialledge.transaction.dto.MonthlyTotal;
+import com.financialledge.transaction.dto.TransactionSummaryResponse;
+import com.financialledge.transaction.entity.Transaction;
+import com.financialledge.transaction.service.DailyUserTotalRebuildService;
+import com.financialledge.transaction.service.TransactionSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/transactions/summary")
+@RequiredArgsConstructor
+public class TransactionSummaryController {
+
+    private final TransactionSummaryService transactionSummaryService;
+    private final DailyUserTotalRebuildService dailyUserTotalRebuildService;
+    private final CurrentUserService currentUserService;
+
+    @GetMapping
+    public ResponseEntity<TransactionSummaryResponse> getSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long userId = currentUserService.getCurrentUserId();
+        TransactionSummaryResponse summary = transactionSummaryService.getSummary(userId, from, to);
+        return ResponseEntity.ok(summary);
+    }
+
+    @GetMapping("/daily")
+    public ResponseEntity<List<DailyTotal>> getDailyTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long userId = currentUserService.getCurrentUserId();
+        List<DailyTotal> totals = transactionSummaryService.getDailyTotals(userId, from, to);
+        return ResponseEntity.ok(totals);
+    }
+
+    @GetMapping("/monthly")
+    public ResponseEntity<List<MonthlyTotal>> getMonthlyTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long userId = currentUserService.getCurrentUserId();
+        List<MonthlyTotal> totals = transactionSummaryService.getMonthlyTotals(userId, from, to);
+        return ResponseEntity.ok(totals);
+    }
+
+    @GetMapping("/category")
+    public ResponseEntity<List<CategoryTotal>> getCategoryTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long userId = currentUserService.getCurrentUserId();
+        List<CategoryTotal> totals = transactionSummaryService.getCategoryTotals(userId, from, to);
+        return ResponseEntity.ok(totals);
+    }
+
+    // 상위 카테고리에 하위 카테고리 금액을 합산한 내역
+    @GetMapping("/category/rollup")
+    public ResponseEntity<List<CategoryRollup>> getRolledUpCategoryTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "EXPENSE") Transaction.TransactionType type) {
+        Long userId = currentUserService.getCurrentUserId();
+        List<CategoryRollup> totals = transactionSummaryService.getRolledUpCategoryTotals(userId, type, from, to);
+        return ResponseEntity.ok(totals);
+    }
+
+    @GetMapping("/category/{categoryId}/rollup")
+    public ResponseEntity<CategoryRollup> getRolledUpCategoryTotal(
+            @PathVariable Long categoryId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "EXPENSE") Transaction.TransactionType type) {
+        Long userId = currentUserService.getCurrentUserId();
+        CategoryRollup total = transactionSummaryService.getRolledUpCategoryTotal(userId, categoryId, type, from, to);
+        return ResponseEntity.ok(total);
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuildSummary() {
+        Long userId = currentUserService.getCurrentUserId();
+        dailyUserTotalRebuildService.rebuildForUser(userId);
+        return ResponseEntity.noContent().build();
+    }
+}
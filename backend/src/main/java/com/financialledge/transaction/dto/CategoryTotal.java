@@ -0,0 +1,20 @@
+package com.financialledge.transaction.dto;
+
+import com.financialledge.transaction.entity.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryTotal {
+    private Long categoryId;
+    private String categoryName;
+    private String categoryColor;
+    private Transaction.TransactionType transactionType;
+    private BigDecimal total;
+    private Long count;
+}
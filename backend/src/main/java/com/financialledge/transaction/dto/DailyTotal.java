@@ -0,0 +1,19 @@
+package com.financialledge.transaction.dto;
+
+import com.financialledge.transaction.entity.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyTotal {
+    private LocalDate date;
+    private Transaction.TransactionType transactionType;
+    private BigDecimal total;
+    private Long count;
+}
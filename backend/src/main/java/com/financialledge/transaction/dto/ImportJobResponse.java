@@ -0,0 +1,25 @@
+package com.financialledge.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJobResponse {
+    private String jobId;
+    private String status;
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+    private List<ImportRowError> errors;
+    private String message;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
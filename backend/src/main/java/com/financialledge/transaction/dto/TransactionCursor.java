@@ -0,0 +1,53 @@
+package com.financialledge.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 거래 목록 keyset 페이지네이션 커서 (transactionDate, updatedAt, id).
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 문자열로만 노출된다.
+ */
+@Data
+@AllArgsConstructor
+public class TransactionCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private LocalDate transactionDate;
+    private LocalDateTime updatedAt;
+    private Long id;
+
+    public static TransactionCursor from(TransactionResponse transaction) {
+        return new TransactionCursor(
+                transaction.getTransactionDate(),
+                transaction.getUpdatedAt(),
+                transaction.getId());
+    }
+
+    public String encode() {
+        String raw = transactionDate + SEPARATOR + updatedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new TransactionCursor(
+                    LocalDate.parse(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.financialledge.transaction.dto;
+
+import com.financialledge.transaction.entity.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionExportRow {
+
+    public static final String[] CSV_HEADER = {
+            "id", "transactionDate", "transactionType", "amount", "description",
+            "categoryId", "categoryName", "accountId", "accountName",
+            "targetAccountId", "targetAccountName", "notes", "createdAt", "updatedAt"
+    };
+
+    private Long id;
+    private LocalDate transactionDate;
+    private Transaction.TransactionType transactionType;
+    private BigDecimal amount;
+    private String description;
+    private Long categoryId;
+    private String categoryName;
+    private Long accountId;
+    private String accountName;
+    private Long targetAccountId;
+    private String targetAccountName;
+    private String notes;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static TransactionExportRow from(Transaction transaction) {
+        return new TransactionExportRow(
+                transaction.getId(),
+                transaction.getTransactionDate(),
+                transaction.getTransactionType(),
+                transaction.getAmount(),
+                transaction.getDescription(),
+                transaction.getCategory() != null ? transaction.getCategory().getId() : null,
+                transaction.getCategory() != null ? transaction.getCategory().getName() : null,
+                transaction.getAccount() != null ? transaction.getAccount().getId() : null,
+                transaction.getAccount() != null ? transaction.getAccount().getName() : null,
+                transaction.getTargetAccount() != null ? transaction.getTargetAccount().getId() : null,
+                transaction.getTargetAccount() != null ? transaction.getTargetAccount().getName() : null,
+                transaction.getNotes(),
+                transaction.getCreatedAt(),
+                transaction.getUpdatedAt());
+    }
+
+    public Object[] toCsvValues() {
+        return new Object[]{
+                id, transactionDate, transactionType, amount, description,
+                categoryId, categoryName, accountId, accountName,
+                targetAccountId, targetAccountName, notes, createdAt, updatedAt
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.financialledge.transaction.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가져오기 파일의 한 행. 행 단위 오류 보고를 위해 모든 값을 문자열로 받고 검증 단계에서 변환한다.
+ * 컬럼 이름은 내보내기(TransactionExportRow) 형식과 동일하다.
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TransactionImportRow {
+    private String transactionDate;
+    private String transactionType;
+    private String amount;
+    private String description;
+    private String categoryId;
+    private String categoryName;
+    private String accountId;
+    private String accountName;
+    private String targetAccountId;
+    private String targetAccountName;
+    private String notes;
+}
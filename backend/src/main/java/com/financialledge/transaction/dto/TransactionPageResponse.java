@@ -0,0 +1,19 @@
+package com.financialledge.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionPageResponse {
+    private List<TransactionResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
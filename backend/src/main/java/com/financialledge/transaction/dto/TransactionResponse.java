@@ -0,0 +1,46 @@
+package com.financialledge.transaction.dto;
+
+import com.financialledge.account.dto.AccountRef;
+import com.financialledge.category.dto.CategoryRef;
+import com.financialledge.transaction.entity.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 조회 응답. 카테고리/계좌는 이름까지 한 쿼리로 읽어 직렬화 중 지연 로딩이 일어나지 않는다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionResponse {
+    private Long id;
+    private LocalDate transactionDate;
+    private String description;
+    private BigDecimal amount;
+    private Transaction.TransactionType transactionType;
+    private CategoryRef category;
+    private AccountRef account;
+    private AccountRef targetAccount;
+    private String notes;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // JPQL 생성자 표현식용
+    public TransactionResponse(Long id, LocalDate transactionDate, String description, BigDecimal amount,
+                               Transaction.TransactionType transactionType,
+                               Long categoryId, String categoryName, String categoryColor,
+                               Long accountId, String accountName,
+                               Long targetAccountId, String targetAccountName,
+                               String notes, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, transactionDate, description, amount, transactionType,
+                CategoryRef.of(categoryId, categoryName, categoryColor),
+                AccountRef.of(accountId, accountName),
+                AccountRef.of(targetAccountId, targetAccountName),
+                notes, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,50 @@
+package com.financialledge.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 거래 검색 keyset 페이지네이션 커서 (window, rank, id). 검색 결과는 점수 창(window) 안에서 rank DESC, id DESC 순서다.
+ * window 는 현재 점수 창의 id 상한(미포함)으로, 첫 창은 Long.MAX_VALUE 다.
+ * rank 는 DB 의 real 값을 그대로 왕복시켜야 같은 점수끼리 비교가 맞는다.
+ */
+@Data
+@AllArgsConstructor
+public class TransactionSearchCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private long window;
+    private float rank;
+    private Long id;
+
+    public static TransactionSearchCursor from(long window, TransactionSearchHit hit) {
+        return new TransactionSearchCursor(window, hit.getRank(), hit.getId());
+    }
+
+    public String encode() {
+        String raw = window + SEPARATOR + rank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            // 창이 없던 예전 커서 (rank|id) 는 첫 창으로 본다
+            if (parts.length == 2) {
+                return new TransactionSearchCursor(Long.MAX_VALUE, Float.parseFloat(parts[0]), Long.valueOf(parts[1]));
+            }
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new TransactionSearchCursor(Long.parseLong(parts[0]), Float.parseFloat(parts[1]), Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
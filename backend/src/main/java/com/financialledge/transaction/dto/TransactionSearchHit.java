@@ -0,0 +1,11 @@
+package com.financialledge.transaction.dto;
+
+/**
+ * 거래 검색 결과의 id 와 점수 (네이티브 쿼리 결과 projection).
+ */
+public interface TransactionSearchHit {
+
+    Long getId();
+
+    Float getRank();
+}
@@ -0,0 +1,17 @@
+package com.financialledge.transaction.dto;
+
+import com.financialledge.transaction.entity.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypeTotal {
+    private Transaction.TransactionType transactionType;
+    private BigDecimal total;
+    private Long count;
+}
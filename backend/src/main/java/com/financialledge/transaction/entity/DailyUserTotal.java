@@ -0,0 +1,63 @@
+package com.financialledge.transaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자/일자/거래유형/카테고리별 거래 합계 롤업.
+ * 거래 생성/수정/삭제 시 같은 DB 트랜잭션 안에서 증분 갱신된다.
+ */
+@Entity
+@Table(name = "daily_user_totals", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_daily_user_totals_key",
+            columnNames = {"user_id", "total_date", "transaction_type", "category_id"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyUserTotal {
+
+    // 카테고리가 없는 거래는 유니크 키가 동작하도록 0으로 저장
+    public static final Long UNCATEGORIZED = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_user_totals_seq")
+    @SequenceGenerator(name = "daily_user_totals_seq", sequenceName = "daily_user_totals_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "total_date", nullable = false)
+    private LocalDate totalDate;
+
+    @Column(name = "transaction_type", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private Transaction.TransactionType transactionType;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "total_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -15,7 +15,19 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+    @Index(name = "idx_transactions_user_date_updated_id",
+            columnList = "user_id, transaction_date DESC, updated_at DESC, id DESC"),
+    @Index(name = "idx_transactions_user_type_date",
+            columnList = "user_id, transaction_type, transaction_date DESC, updated_at DESC"),
+    @Index(name = "idx_transactions_user_category_date",
+            columnList = "user_id, category_id, transaction_date DESC, updated_at DESC"),
+    // 동기화(/api/sync) 변경분 조회용
+    @Index(name = "idx_transactions_user_updated_id", columnList = "user_id, updated_at, id"),
+    // 계좌 잔액 체크포인트 구간 합산용
+    @Index(name = "idx_transactions_account_date", columnList = "account_id, transaction_date"),
+    @Index(name = "idx_transactions_target_account_date", columnList = "target_account_id, transaction_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,8 +35,10 @@ import java.time.LocalDateTime;
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Transaction {
 
+    // IDENTITY 는 INSERT 배치를 막으므로 pooled 시퀀스 사용 (allocationSize 단위로 id 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -72,6 +86,7 @@ public class Transaction {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    // PostgreSQL 에서는 트리거가 DB 시각으로 다시 찍는다 (동기화 상한, V16)
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
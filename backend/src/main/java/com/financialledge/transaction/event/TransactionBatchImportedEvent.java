@@ -0,0 +1,15 @@
+package com.financialledge.transaction.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 대량 가져오기의 배치 하나. 배치 트랜잭션 안에서 발행되며, 예산 임계치 확인에 필요한
+ * 카테고리가 있는 지출만 (카테고리, 계좌, 날짜) 단위로 합산해 담는다.
+ */
+public record TransactionBatchImportedEvent(Long userId, String jobId, List<ExpenseTotal> expenses) {
+
+    public record ExpenseTotal(Long categoryId, Long accountId, LocalDate transactionDate, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.financialledge.transaction.event;
+
+import com.financialledge.transaction.entity.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 거래 생성/수정/삭제 도메인 이벤트. before 는 생성 시, after 는 삭제 시 null.
+ * 엔티티는 이후에 변경될 수 있으므로 발행 시점의 값을 스냅샷으로 담는다.
+ */
+public record TransactionChangedEvent(Long userId, Long transactionId, Snapshot before, Snapshot after) {
+
+    public static TransactionChangedEvent created(Long userId, Transaction transaction) {
+        return new TransactionChangedEvent(userId, transaction.getId(), null, Snapshot.of(transaction));
+    }
+
+    public static TransactionChangedEvent updated(Long userId, Snapshot before, Transaction transaction) {
+        return new TransactionChangedEvent(userId, transaction.getId(), before, Snapshot.of(transaction));
+    }
+
+    public static TransactionChangedEvent deleted(Long userId, Transaction transaction) {
+        return new TransactionChangedEvent(userId, transaction.getId(), Snapshot.of(transaction), null);
+    }
+
+    public record Snapshot(LocalDate transactionDate,
+                           Transaction.TransactionType transactionType,
+                           BigDecimal amount,
+                           Long categoryId,
+                           Long accountId,
+                           Long targetAccountId) {
+
+        public static Snapshot of(Transaction transaction) {
+            return new Snapshot(
+                    transaction.getTransactionDate(),
+                    transaction.getTransactionType(),
+                    transaction.getAmount(),
+                    transaction.getCategory() != null ? transaction.getCategory().getId() : null,
+                    transaction.getAccount() != null ? transaction.getAccount().getId() : null,
+                    transaction.getTargetAccount() != null ? transaction.getTargetAccount().getId() : null);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.financialledge.transaction.event;
+
+/**
+ * 대량 가져오기 종료 이벤트. 거래 단위 이벤트 대신 사용자 단위로 한 번 발행한다.
+ */
+public record TransactionsImportedEvent(Long userId, String jobId) {
+}
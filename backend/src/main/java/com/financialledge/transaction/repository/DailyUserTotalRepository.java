@@ -0,0 +1,90 @@
+package com.financialledge.transaction.repository;
+
+import com.financialledge.transaction.dto.CategoryTotal;
+import com.financialledge.transaction.dto.DailyTotal;
+import com.financialledge.transaction.dto.MonthlyTotal;
+import com.financialledge.transaction.dto.TypeTotal;
+import com.financialledge.transaction.entity.DailyUserTotal;
+import com.financialledge.transaction.entity.Transaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyUserTotalRepository extends JpaRepository<DailyUserTotal, Long> {
+
+    // 증분 갱신: 행 단위 원자적 UPDATE, 갱신된 행이 없으면 호출 측에서 insertEmptyIfAbsent 후 재시도
+    @Modifying
+    @Query("UPDATE DailyUserTotal d SET d.totalAmount = d.totalAmount + :amount, " +
+            "d.transactionCount = d.transactionCount + :count, d.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE d.userId = :userId AND d.totalDate = :totalDate " +
+            "AND d.transactionType = :transactionType AND d.categoryId = :categoryId")
+    int applyDelta(Long userId, LocalDate totalDate, Transaction.TransactionType transactionType,
+                   Long categoryId, BigDecimal amount, long count);
+
+    // 키의 첫 거래: 빈 행을 만들고 applyDelta 를 다시 호출. 동시에 만든 행이 있으면 아무것도 하지 않는다
+    // (native.spaces: 영향 테이블을 알려 주지 않으면 Hibernate 가 네이티브 쓰기마다 2차 캐시 전체를 비운다)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_user_totals"))
+    @Query(value = "INSERT INTO daily_user_totals " +
+            "(id, user_id, total_date, transaction_type, category_id, total_amount, transaction_count, updated_at) " +
+            "VALUES (nextval('daily_user_totals_seq'), :userId, :totalDate, :transactionType, :categoryId, 0, 0, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertEmptyIfAbsent(Long userId, LocalDate totalDate, String transactionType, Long categoryId);
+
+    @Modifying
+    @Query("DELETE FROM DailyUserTotal d WHERE d.userId = :userId AND d.totalDate = :totalDate " +
+            "AND d.transactionType = :transactionType AND d.categoryId = :categoryId " +
+            "AND d.transactionCount <= 0")
+    int deleteIfEmpty(Long userId, LocalDate totalDate, Transaction.TransactionType transactionType,
+                      Long categoryId);
+
+    @Modifying
+    @Query("DELETE FROM DailyUserTotal d WHERE d.userId = :userId")
+    int deleteByUserId(Long userId);
+
+    // 재생성: transactions 테이블에서 한 번의 INSERT ... SELECT 로 롤업을 다시 계산
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_user_totals"))
+    @Query(value = "INSERT INTO daily_user_totals " +
+            "(id, user_id, total_date, transaction_type, category_id, total_amount, transaction_count, updated_at) " +
+            "SELECT nextval('daily_user_totals_seq'), user_id, transaction_date, transaction_type, COALESCE(category_id, 0), " +
+            "SUM(amount), COUNT(*), CURRENT_TIMESTAMP " +
+            "FROM transactions WHERE user_id = :userId " +
+            "GROUP BY user_id, transaction_date, transaction_type, COALESCE(category_id, 0)",
+            nativeQuery = true)
+    int rebuildForUser(Long userId);
+
+    @Query("SELECT new com.financialledge.transaction.dto.TypeTotal(d.transactionType, SUM(d.totalAmount), SUM(d.transactionCount)) " +
+            "FROM DailyUserTotal d WHERE d.userId = :userId AND d.totalDate BETWEEN :from AND :to " +
+            "GROUP BY d.transactionType")
+    List<TypeTotal> sumByType(Long userId, LocalDate from, LocalDate to);
+
+    @Query("SELECT new com.financialledge.transaction.dto.DailyTotal(d.totalDate, d.transactionType, SUM(d.totalAmount), SUM(d.transactionCount)) " +
+            "FROM DailyUserTotal d WHERE d.userId = :userId AND d.totalDate BETWEEN :from AND :to " +
+            "GROUP BY d.totalDate, d.transactionType ORDER BY d.totalDate")
+    List<DailyTotal> sumByDay(Long userId, LocalDate from, LocalDate to);
+
+    @Query("SELECT new com.financialledge.transaction.dto.MonthlyTotal(" +
+            "YEAR(d.totalDate), MONTH(d.totalDate), d.transactionType, SUM(d.totalAmount), SUM(d.transactionCount)) " +
+            "FROM DailyUserTotal d WHERE d.userId = :userId AND d.totalDate BETWEEN :from AND :to " +
+            "GROUP BY YEAR(d.totalDate), MONTH(d.totalDate), d.transactionType " +
+            "ORDER BY YEAR(d.totalDate), MONTH(d.totalDate)")
+    List<MonthlyTotal> sumByMonth(Long userId, LocalDate from, LocalDate to);
+
+    @Query("SELECT new com.financialledge.transaction.dto.CategoryTotal(" +
+            "c.id, c.name, c.color, d.transactionType, SUM(d.totalAmount), SUM(d.transactionCount)) " +
+            "FROM DailyUserTotal d LEFT JOIN Category c ON c.id = d.categoryId " +
+            "WHERE d.userId = :userId AND d.totalDate BETWEEN :from AND :to " +
+            "GROUP BY c.id, c.name, c.color, d.transactionType ORDER BY SUM(d.totalAmount) DESC")
+    List<CategoryTotal> sumByCategory(Long userId, LocalDate from, LocalDate to);
+}
@@ -1,15 +1,53 @@
 package com.financialledge.transaction.repository;
 
+import com.financialledge.transaction.dto.TransactionResponse;
+import com.financialledge.transaction.dto.TransactionSearchHit;
 import com.financialledge.transaction.entity.Transaction;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+
+    // 조회 응답용: 카테고리/계좌 이름을 LEFT JOIN 으로 함께 읽는다 (엔티티/연관 로딩 없음)
+    String RESPONSE_SELECT = "SELECT new com.financialledge.transaction.dto.TransactionResponse(" +
+            "t.id, t.transactionDate, t.description, t.amount, t.transactionType, " +
+            "c.id, c.name, c.color, a.id, a.name, ta.id, ta.name, t.notes, t.createdAt, t.updatedAt) " +
+            "FROM Transaction t LEFT JOIN t.category c LEFT JOIN t.account a LEFT JOIN t.targetAccount ta ";
+
+    @Query(RESPONSE_SELECT + "WHERE t.id = :id AND t.userId = :userId")
+    Optional<TransactionResponse> findResponseByIdAndUserId(Long id, Long userId);
+
+    @Query(RESPONSE_SELECT + "WHERE t.userId = :userId ORDER BY t.transactionDate DESC, t.updatedAt DESC")
+    List<TransactionResponse> findResponsesByUserId(Long userId);
+
+    @Query(RESPONSE_SELECT + "WHERE t.userId = :userId AND t.transactionType = :transactionType " +
+            "ORDER BY t.transactionDate DESC, t.updatedAt DESC")
+    List<TransactionResponse> findResponsesByUserIdAndTransactionType(Long userId,
+                                                                      Transaction.TransactionType transactionType);
+
+    @Query(RESPONSE_SELECT + "WHERE t.userId = :userId AND t.category.id = :categoryId " +
+            "ORDER BY t.transactionDate DESC, t.updatedAt DESC")
+    List<TransactionResponse> findResponsesByUserIdAndCategoryId(Long userId, Long categoryId);
+
+    @Query(RESPONSE_SELECT + "WHERE t.userId = :userId AND t.account.id = :accountId " +
+            "ORDER BY t.transactionDate DESC, t.updatedAt DESC")
+    List<TransactionResponse> findResponsesByUserIdAndAccountId(Long userId, Long accountId);
     
     List<Transaction> findByUserId(Long userId);
     
@@ -26,6 +64,86 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     @Query("SELECT t FROM Transaction t WHERE t.userId = :userId ORDER BY t.transactionDate DESC, t.updatedAt DESC")
     List<Transaction> findByUserIdOrderByTransactionDateDescAndUpdatedAtDesc(Long userId);
     
+    // keyset 페이지네이션: idx_transactions_user_date_updated_id 인덱스 순서와 동일하게 정렬
+    @Query(RESPONSE_SELECT + "WHERE t.userId = :userId " +
+            "ORDER BY t.transactionDate DESC, t.updatedAt DESC, t.id DESC")
+    List<TransactionResponse> findFirstPageByUserId(Long userId, Limit limit);
+    
+    @Query(RESPONSE_SELECT + "WHERE t.userId = :userId AND (" +
+            "t.transactionDate < :transactionDate OR " +
+            "(t.transactionDate = :transactionDate AND t.updatedAt < :updatedAt) OR " +
+            "(t.transactionDate = :transactionDate AND t.updatedAt = :updatedAt AND t.id < :id)) " +
+            "ORDER BY t.transactionDate DESC, t.updatedAt DESC, t.id DESC")
+    List<TransactionResponse> findPageByUserIdAfter(Long userId, LocalDate transactionDate,
+                                                    LocalDateTime updatedAt, Long id, Limit limit);
+    
+    // 검색 (PostgreSQL): V11 의 search_vector + V14 의 idx_transactions_user_search. :query 는 to_tsquery 문법
+    // ts_rank 는 일치한 행마다 tsvector 를 읽어 계산하므로, 점수는 id < :before 인 일치 중 최근 :candidates 건(점수 창)만 매긴다.
+    // 창을 다 넘기면 searchWindowFloor 로 다음(더 오래된) 창으로 넘어간다
+    String SEARCH_WINDOW = "SELECT c.id, c.search_vector FROM transactions c " +
+            "WHERE c.user_id = :userId AND c.search_vector @@ to_tsquery('simple', :query) AND c.id < :before " +
+            "ORDER BY c.id DESC LIMIT :candidates";
+    String SEARCH_FROM = "FROM (" + SEARCH_WINDOW + ") t " +
+            "CROSS JOIN to_tsquery('simple', :query) AS q(query) ";
+    String SEARCH_RANK = "ts_rank(t.search_vector, q.query)";
+    
+    @Query(value = "SELECT t.id AS id, " + SEARCH_RANK + " AS rank " + SEARCH_FROM +
+            "ORDER BY rank DESC, t.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<TransactionSearchHit> searchFirstPage(Long userId, String query, long before, int candidates, int limit);
+    
+    @Query(value = "SELECT t.id AS id, " + SEARCH_RANK + " AS rank " + SEARCH_FROM +
+            "WHERE " + SEARCH_RANK + " < CAST(:rank AS real) OR " +
+            "(" + SEARCH_RANK + " = CAST(:rank AS real) AND t.id < :id) " +
+            "ORDER BY rank DESC, t.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<TransactionSearchHit> searchPageAfter(Long userId, String query, long before, int candidates,
+                                               float rank, Long id, int limit);
+
+    // 점수 창의 가장 작은 id. 창이 가득 차지 않았으면(더 오래된 일치가 없음) NULL
+    @Query(value = "SELECT CASE WHEN COUNT(*) = :candidates THEN MIN(w.id) END FROM (" + SEARCH_WINDOW + ") w",
+            nativeQuery = true)
+    Long searchWindowFloor(Long userId, String query, long before, int candidates);
+    
+    // 검색 대체 경로 (H2 등): 인덱스 없이 정규식으로 훑는다. :pattern 은 토큰마다 단어 접두어 lookahead 라
+    // PostgreSQL 처럼 토큰 순서와 상관없이 각 토큰이 description 또는 notes 의 단어 앞부분과 맞아야 한다.
+    // description 만으로 모두 맞으면 notes 일치보다 앞에 둔다
+    String FALLBACK_SEARCH_FROM = "FROM transactions t " +
+            "WHERE t.user_id = :userId " +
+            "AND REGEXP_LIKE(LOWER(COALESCE(t.description, '') || ' ' || COALESCE(t.notes, '')), :pattern, 'n') ";
+    String FALLBACK_SEARCH_RANK = "CAST(CASE WHEN REGEXP_LIKE(LOWER(COALESCE(t.description, '')), :pattern, 'n') " +
+            "THEN 1 ELSE 0.5 END AS real)";
+    
+    @Query(value = "SELECT t.id AS id, " + FALLBACK_SEARCH_RANK + " AS rank " + FALLBACK_SEARCH_FROM +
+            "ORDER BY rank DESC, t.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<TransactionSearchHit> fallbackSearchFirstPage(Long userId, String pattern, int limit);
+    
+    @Query(value = "SELECT t.id AS id, " + FALLBACK_SEARCH_RANK + " AS rank " + FALLBACK_SEARCH_FROM +
+            "AND (" + FALLBACK_SEARCH_RANK + " < CAST(:rank AS real) OR " +
+            "(" + FALLBACK_SEARCH_RANK + " = CAST(:rank AS real) AND t.id < :id)) " +
+            "ORDER BY rank DESC, t.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<TransactionSearchHit> fallbackSearchPageAfter(Long userId, String pattern, float rank, Long id, int limit);
+    
+    @Query(RESPONSE_SELECT + "WHERE t.userId = :userId AND t.id IN :ids")
+    List<TransactionResponse> findResponsesByUserIdAndIdIn(Long userId, Collection<Long> ids);
+    
+    // 내보내기용 전진 전용 스트림: 트랜잭션 안에서 소비해야 하며 fetch size 단위로 가져온다
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Transaction t " +
+            "LEFT JOIN FETCH t.category LEFT JOIN FETCH t.account LEFT JOIN FETCH t.targetAccount " +
+            "WHERE t.userId = :userId AND t.transactionDate BETWEEN :from AND :to " +
+            "ORDER BY t.transactionDate, t.id")
+    Stream<Transaction> streamByUserIdAndTransactionDateBetween(Long userId, LocalDate from, LocalDate to);
+    
+    @Query("SELECT DISTINCT t.userId FROM Transaction t")
+    List<Long> findDistinctUserIds();
+    
     // 기존 메서드들 (하위 호환성을 위해 유지, 하지만 사용하지 않는 것을 권장)
     @Deprecated
     List<Transaction> findByTransactionType(Transaction.TransactionType transactionType);
@@ -0,0 +1,51 @@
+package com.financialledge.transaction.service;
+
+import com.financialledge.transaction.repository.DailyUserTotalRepository;
+import com.financialledge.transaction.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * transactions 테이블로부터 daily_user_totals 롤업을 처음부터 다시 만든다.
+ * 사용자 단위로 트랜잭션을 나누어 잠금 구간을 짧게 유지한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyUserTotalRebuildService {
+
+    private final DailyUserTotalRepository dailyUserTotalRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${rollup.daily-totals.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuildAll();
+        }
+    }
+
+    public void rebuildAll() {
+        List<Long> userIds = transactionRepository.findDistinctUserIds();
+        log.info("Rebuilding daily_user_totals for {} users", userIds.size());
+        userIds.forEach(this::rebuildForUser);
+    }
+
+    public int rebuildForUser(Long userId) {
+        Integer rows = transactionTemplate.execute(status -> {
+            dailyUserTotalRepository.deleteByUserId(userId);
+            return dailyUserTotalRepository.rebuildForUser(userId);
+        });
+        return rows == null ? 0 : rows;
+    }
+}
@@ -0,0 +1,54 @@
+package com.financialledge.transaction.service;
+
+import com.financialledge.transaction.entity.DailyUserTotal;
+import com.financialledge.transaction.entity.Transaction;
+import com.financialledge.transaction.repository.DailyUserTotalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * daily_user_totals 롤업 증분 갱신.
+ * 항상 호출한 거래 쓰기와 같은 DB 트랜잭션에 참여한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class DailyUserTotalService {
+
+    private final DailyUserTotalRepository dailyUserTotalRepository;
+
+    public void add(Long userId, Transaction transaction) {
+        applyDelta(userId, transaction, transaction.getAmount(), 1);
+    }
+
+    public void remove(Long userId, Transaction transaction) {
+        applyDelta(userId, transaction, transaction.getAmount().negate(), -1);
+    }
+
+    private void applyDelta(Long userId, Transaction transaction, BigDecimal amount, long count) {
+        Long categoryId = transaction.getCategory() != null ? transaction.getCategory().getId() : null;
+        applyDelta(userId, transaction.getTransactionDate(), transaction.getTransactionType(), categoryId, amount, count);
+    }
+
+    public void applyDelta(Long userId, LocalDate date, Transaction.TransactionType type, Long categoryId,
+                           BigDecimal amount, long count) {
+        Long key = categoryId != null ? categoryId : DailyUserTotal.UNCATEGORIZED;
+
+        int updated = dailyUserTotalRepository.applyDelta(userId, date, type, key, amount, count);
+
+        if (updated == 0) {
+            // 해당 키의 첫 거래. 동시에 같은 키를 만드는 쓰기와 유니크 키 충돌이 나지 않도록
+            // 빈 행을 ON CONFLICT DO NOTHING 으로 만든 뒤 같은 UPDATE 를 다시 실행한다
+            dailyUserTotalRepository.insertEmptyIfAbsent(userId, date, type.name(), key);
+            dailyUserTotalRepository.applyDelta(userId, date, type, key, amount, count);
+        }
+        if (count < 0) {
+            dailyUserTotalRepository.deleteIfEmpty(userId, date, type, key);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.financialledge.transaction.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.financialledge.transaction.dto.TransactionExportRow;
+import com.financialledge.transaction.entity.Transaction;
+import com.financialledge.transaction.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+/**
+ * 거래 내역을 CSV/NDJSON 으로 스트리밍한다.
+ * 행을 하나씩 읽어 쓰고 바로 detach 하므로 거래 건수와 무관하게 메모리 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final TransactionRepository transactionRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    public enum ExportFormat {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static ExportFormat of(String value) {
+            for (ExportFormat format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new RuntimeException("Unsupported export format: " + value);
+        }
+    }
+
+    public void export(Long userId, ExportFormat format, LocalDate from, LocalDate to, OutputStream outputStream) {
+        LocalDate start = from != null ? from : MIN_DATE;
+        LocalDate end = to != null ? to : MAX_DATE;
+
+        // 응답 스트리밍은 요청 스레드 밖에서 실행되므로 읽기 전용 트랜잭션을 직접 연다
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try (Stream<Transaction> rows = transactionRepository.streamByUserIdAndTransactionDateBetween(userId, start, end)) {
+                if (format == ExportFormat.CSV) {
+                    writeCsvLine(writer, TransactionExportRow.CSV_HEADER);
+                }
+                ObjectWriter jsonWriter = objectMapper.writerFor(TransactionExportRow.class);
+                rows.forEach(transaction -> {
+                    TransactionExportRow row = TransactionExportRow.from(transaction);
+                    entityManager.detach(transaction);
+                    try {
+                        if (format == ExportFormat.CSV) {
+                            writeCsvLine(writer, row.toCsvValues());
+                        } else {
+                            writer.write(jsonWriter.writeValueAsString(row));
+                            writer.write('\n');
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
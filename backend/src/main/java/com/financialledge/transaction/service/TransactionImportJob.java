@@ -0,0 +1,100 @@
+package com.financialledge.transaction.service;
+
+import com.financialledge.transaction.dto.ImportJobResponse;
+import com.financialledge.transaction.dto.ImportRowError;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 진행 중인 가져오기 작업 상태. 작업 스레드가 갱신하고 조회 요청이 스냅샷을 읽는다.
+ */
+public class TransactionImportJob {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    // 응답 크기를 제한하기 위해 행 오류는 앞에서부터 일정 개수만 보관
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+
+    @Getter
+    private final String id = UUID.randomUUID().toString();
+    @Getter
+    private final Long userId;
+
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final List<ImportRowError> errors = new ArrayList<>();
+
+    private volatile Status status = Status.PENDING;
+    private volatile String message;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public TransactionImportJob(Long userId) {
+        this.userId = userId;
+    }
+
+    public void start() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    public void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    public void fail(String message) {
+        this.message = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    public void addImported(long rows) {
+        processedRows.addAndGet(rows);
+        importedRows.addAndGet(rows);
+    }
+
+    public void addError(long row, String message) {
+        processedRows.incrementAndGet();
+        failedRows.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportRowError(row, message));
+            }
+        }
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public ImportJobResponse toResponse() {
+        List<ImportRowError> errorSnapshot;
+        synchronized (errors) {
+            errorSnapshot = List.copyOf(errors);
+        }
+        return ImportJobResponse.builder()
+                .jobId(id)
+                .status(status.name())
+                .processedRows(processedRows.get())
+                .importedRows(importedRows.get())
+                .failedRows(failedRows.get())
+                .errors(errorSnapshot)
+                .message(message)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
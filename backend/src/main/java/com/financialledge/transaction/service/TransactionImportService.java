@@ -0,0 +1,86 @@
+package com.financialledge.transaction.service;
+
+import com.financialledge.transaction.dto.ImportJobResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 거래 대량 가져오기 작업을 접수하고 진행 상황을 조회한다.
+ * 업로드 파일은 임시 파일로 옮긴 뒤 TransactionImportWorker 가 비동기로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionImportService {
+
+    // 완료된 작업 상태를 보관하는 시간
+    private static final long FINISHED_JOB_RETENTION_MINUTES = 60;
+
+    private final TransactionImportWorker transactionImportWorker;
+    private final Map<String, TransactionImportJob> jobs = new ConcurrentHashMap<>();
+
+    public enum ImportFormat {
+        CSV, JSON;
+
+        public static ImportFormat of(String format, String filename) {
+            String value = format;
+            if (value == null || value.isBlank()) {
+                String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+                value = name.endsWith(".json") || name.endsWith(".ndjson") ? "json" : "csv";
+            }
+            if ("ndjson".equalsIgnoreCase(value)) {
+                return JSON;
+            }
+            for (ImportFormat importFormat : values()) {
+                if (importFormat.name().equalsIgnoreCase(value)) {
+                    return importFormat;
+                }
+            }
+            throw new RuntimeException("Unsupported import format: " + format);
+        }
+    }
+
+    public ImportJobResponse startImport(Long userId, MultipartFile file, String format) {
+        if (file == null || file.isEmpty()) {
+            throw new RuntimeException("Import file is empty");
+        }
+        ImportFormat importFormat = ImportFormat.of(format, file.getOriginalFilename());
+        purgeFinishedJobs();
+
+        Path tempFile;
+        try (InputStream in = file.getInputStream()) {
+            tempFile = Files.createTempFile("transaction-import-", "." + importFormat.name().toLowerCase(Locale.ROOT));
+            Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not store import file", e);
+        }
+
+        TransactionImportJob job = new TransactionImportJob(userId);
+        jobs.put(job.getId(), job);
+        transactionImportWorker.run(job, tempFile, importFormat);
+        return job.toResponse();
+    }
+
+    public ImportJobResponse getImportJob(String jobId, Long userId) {
+        TransactionImportJob job = jobs.get(jobId);
+        if (job == null || !job.getUserId().equals(userId)) {
+            throw new RuntimeException("Import job not found with id: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(FINISHED_JOB_RETENTION_MINUTES);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
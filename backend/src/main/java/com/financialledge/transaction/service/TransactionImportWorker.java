@@ -0,0 +1,454 @@
+package com.financialledge.transaction.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financialledge.account.entity.Account;
+import com.financialledge.account.repository.AccountRepository;
+import com.financialledge.account.service.AccountBalanceService;
+import com.financialledge.auth.entity.User;
+import com.financialledge.category.entity.Category;
+import com.financialledge.category.repository.CategoryRepository;
+import com.financialledge.transaction.dto.TransactionImportRow;
+import com.financialledge.transaction.entity.Transaction;
+import com.financialledge.transaction.event.TransactionBatchImportedEvent;
+import com.financialledge.transaction.event.TransactionsImportedEvent;
+import com.financialledge.transaction.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 가져오기 파일을 스트리밍으로 읽어 BATCH_SIZE 단위로 검증, 참조 해석, INSERT 를 수행한다.
+ * 거래 id 가 pooled 시퀀스이므로 persist 후 flush 시 hibernate.jdbc.batch_size 단위로 JDBC 배치 INSERT 된다.
+ * 배치마다 별도 트랜잭션으로 커밋하며 롤업도 같은 트랜잭션에서 갱신한다.
+ * 배치마다 TransactionBatchImportedEvent 를 발행해 예산 임계치를 확인하게 한다.
+ * 잘못된 행(검증 실패, 깨진 JSON 행)은 작업 오류 목록에 남기고 다음 행으로 넘어간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionImportWorker {
+
+    static final int BATCH_SIZE = 1_000;
+
+    private final EntityManager entityManager;
+    private final CategoryRepository categoryRepository;
+    private final AccountRepository accountRepository;
+    private final DailyUserTotalService dailyUserTotalService;
+    private final AccountBalanceService accountBalanceService;
+    private final TransactionOutboxWriter transactionOutboxWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Async
+    public void run(TransactionImportJob job, Path file, TransactionImportService.ImportFormat format) {
+        job.start();
+        try (InputStream in = Files.newInputStream(file)) {
+            BatchContext context = new BatchContext(job);
+            if (format == TransactionImportService.ImportFormat.CSV) {
+                readCsv(in, context);
+            } else {
+                readJson(in, context);
+            }
+            context.flush();
+            job.complete();
+        } catch (Exception e) {
+            log.warn("Import job {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            // 실패하더라도 앞선 배치는 이미 커밋되었을 수 있음
+            eventPublisher.publishEvent(new TransactionsImportedEvent(job.getUserId(), job.getId()));
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", file, e);
+            }
+        }
+    }
+
+    private void readCsv(InputStream in, BatchContext context) throws IOException {
+        try (CsvReader reader = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                return;
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                // UTF-8 BOM 제거
+                columns.put(header.get(i).replace("\uFEFF", "").trim(), i);
+            }
+
+            long rowNumber = 0;
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                rowNumber++;
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                TransactionImportRow row = new TransactionImportRow();
+                row.setTransactionDate(column(record, columns, "transactionDate"));
+                row.setTransactionType(column(record, columns, "transactionType"));
+                row.setAmount(column(record, columns, "amount"));
+                row.setDescription(column(record, columns, "description"));
+                row.setCategoryId(column(record, columns, "categoryId"));
+                row.setCategoryName(column(record, columns, "categoryName"));
+                row.setAccountId(column(record, columns, "accountId"));
+                row.setAccountName(column(record, columns, "accountName"));
+                row.setTargetAccountId(column(record, columns, "targetAccountId"));
+                row.setTargetAccountName(column(record, columns, "targetAccountName"));
+                row.setNotes(column(record, columns, "notes"));
+                context.add(rowNumber, row);
+            }
+        }
+    }
+
+    // 루트가 배열이면 원소 단위로, 아니면 NDJSON(한 줄에 객체 하나)으로 읽는다
+    private void readJson(InputStream in, BatchContext context) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        if (firstSignificantChar(reader) == '[') {
+            readJsonArray(reader, context);
+        } else {
+            readNdjson(reader, context);
+        }
+    }
+
+    // 원소의 구문 오류 뒤로는 어디서 다음 원소가 시작하는지 알 수 없으므로 그 행에 오류를 남기고 멈춘다
+    private void readJsonArray(BufferedReader reader, BatchContext context) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(reader)) {
+            long rowNumber = 0;
+            try {
+                parser.nextToken();
+                JsonToken token;
+                while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                    rowNumber++;
+                    addJsonRow(rowNumber, parser.readValueAsTree(), context);
+                }
+            } catch (JsonProcessingException e) {
+                context.addError(Math.max(rowNumber, 1), "Malformed JSON, remaining rows were not read: "
+                        + e.getOriginalMessage());
+            }
+        }
+    }
+
+    // 줄마다 따로 파싱하므로 깨진 줄은 그 행만 오류가 된다
+    private void readNdjson(BufferedReader reader, BatchContext context) throws IOException {
+        long rowNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            rowNumber++;
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                context.addError(rowNumber, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            addJsonRow(rowNumber, node, context);
+        }
+    }
+
+    private void addJsonRow(long rowNumber, JsonNode node, BatchContext context) {
+        if (node == null || !node.isObject()) {
+            context.addError(rowNumber, "Row must be a JSON object");
+            return;
+        }
+        try {
+            context.add(rowNumber, objectMapper.treeToValue(node, TransactionImportRow.class));
+        } catch (JsonProcessingException e) {
+            context.addError(rowNumber, "Invalid row: " + e.getOriginalMessage());
+        }
+    }
+
+    // 공백과 UTF-8 BOM 을 건너뛴 첫 글자를 읽고 되돌린다 (빈 파일이면 -1)
+    private int firstSignificantChar(BufferedReader reader) throws IOException {
+        while (true) {
+            reader.mark(1);
+            int c = reader.read();
+            if (c == -1 || (c != '\uFEFF' && !Character.isWhitespace(c))) {
+                reader.reset();
+                return c;
+            }
+        }
+    }
+
+    private String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private class BatchContext {
+
+        private final TransactionImportJob job;
+        private final List<Long> rowNumbers = new ArrayList<>(BATCH_SIZE);
+        private final List<TransactionImportRow> rows = new ArrayList<>(BATCH_SIZE);
+
+        // 작업 전체에서 재사용하는 참조 해석 결과 (카테고리/계좌 수만큼만 커진다)
+        private final Set<Long> knownCategoryIds = new HashSet<>();
+        private final Set<Long> knownAccountIds = new HashSet<>();
+        private final Map<String, Long> categoryIdsByName = new HashMap<>();
+        private final Map<String, Long> accountIdsByName = new HashMap<>();
+
+        BatchContext(TransactionImportJob job) {
+            this.job = job;
+        }
+
+        void add(long rowNumber, TransactionImportRow row) {
+            rowNumbers.add(rowNumber);
+            rows.add(row);
+            if (rows.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void addError(long rowNumber, String message) {
+            job.addError(rowNumber, message);
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            resolveReferences();
+
+            List<Transaction> valid = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    valid.add(toTransaction(rows.get(i)));
+                } catch (RuntimeException e) {
+                    job.addError(rowNumbers.get(i), e.getMessage());
+                }
+            }
+
+            if (!valid.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    User user = entityManager.getReference(User.class, job.getUserId());
+                    for (Transaction transaction : valid) {
+                        transaction.setUser(user);
+                        entityManager.persist(transaction);
+                    }
+                    entityManager.flush();
+                    entityManager.clear();
+                    applyRollup(valid);
+                    applyBalances(valid);
+                    valid.forEach(transaction -> transactionOutboxWriter.created(job.getUserId(), transaction));
+                    publishBatch(valid);
+                });
+                job.addImported(valid.size());
+            }
+            rowNumbers.clear();
+            rows.clear();
+        }
+
+        // 배치에 등장한 미해석 참조만 모아 종류별로 한 번씩 조회
+        private void resolveReferences() {
+            Set<Long> categoryIds = new HashSet<>();
+            Set<Long> accountIds = new HashSet<>();
+            Set<String> categoryNames = new HashSet<>();
+            Set<String> accountNames = new HashSet<>();
+            for (TransactionImportRow row : rows) {
+                collectId(row.getCategoryId(), knownCategoryIds, categoryIds);
+                collectId(row.getAccountId(), knownAccountIds, accountIds);
+                collectId(row.getTargetAccountId(), knownAccountIds, accountIds);
+                collectName(row.getCategoryName(), categoryIdsByName, categoryNames);
+                collectName(row.getAccountName(), accountIdsByName, accountNames);
+                collectName(row.getTargetAccountName(), accountIdsByName, accountNames);
+            }
+            if (!categoryIds.isEmpty()) {
+                categoryRepository.findAllById(categoryIds).forEach(c -> knownCategoryIds.add(c.getId()));
+            }
+            if (!accountIds.isEmpty()) {
+                accountRepository.findAllById(accountIds).forEach(a -> knownAccountIds.add(a.getId()));
+            }
+            if (!categoryNames.isEmpty()) {
+                categoryRepository.findByNameIn(categoryNames).forEach(c -> categoryIdsByName.put(c.getName(), c.getId()));
+            }
+            if (!accountNames.isEmpty()) {
+                accountRepository.findByNameIn(accountNames).forEach(a -> accountIdsByName.putIfAbsent(a.getName(), a.getId()));
+            }
+        }
+
+        private void collectId(String value, Set<Long> known, Set<Long> pending) {
+            if (value == null || value.isBlank()) {
+                return;
+            }
+            try {
+                Long id = Long.valueOf(value.trim());
+                if (!known.contains(id)) {
+                    pending.add(id);
+                }
+            } catch (NumberFormatException ignored) {
+                // 행 검증 단계에서 오류로 보고된다
+            }
+        }
+
+        private void collectName(String value, Map<String, Long> known, Set<String> pending) {
+            if (value != null && !value.isBlank() && !known.containsKey(value.trim())) {
+                pending.add(value.trim());
+            }
+        }
+
+        private Transaction toTransaction(TransactionImportRow row) {
+            LocalDate date;
+            try {
+                date = LocalDate.parse(required(row.getTransactionDate(), "transactionDate").trim());
+            } catch (DateTimeParseException e) {
+                throw new RuntimeException("Invalid transactionDate: " + row.getTransactionDate());
+            }
+
+            Transaction.TransactionType type;
+            try {
+                type = Transaction.TransactionType.valueOf(required(row.getTransactionType(), "transactionType").trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Invalid transactionType: " + row.getTransactionType());
+            }
+
+            BigDecimal amount;
+            try {
+                amount = new BigDecimal(required(row.getAmount(), "amount").trim());
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("Invalid amount: " + row.getAmount());
+            }
+            if (amount.signum() < 0 || amount.scale() > 2 || amount.precision() - amount.scale() > 13) {
+                throw new RuntimeException("Amount out of range: " + row.getAmount());
+            }
+
+            String description = required(row.getDescription(), "description");
+            if (description.length() > 255) {
+                throw new RuntimeException("Description longer than 255 characters");
+            }
+
+            Long categoryId = resolve(row.getCategoryId(), row.getCategoryName(), knownCategoryIds, categoryIdsByName, "category");
+            Long accountId = resolve(row.getAccountId(), row.getAccountName(), knownAccountIds, accountIdsByName, "account");
+            if (accountId == null) {
+                throw new RuntimeException("account is required");
+            }
+            Long targetAccountId = resolve(row.getTargetAccountId(), row.getTargetAccountName(), knownAccountIds, accountIdsByName, "targetAccount");
+
+            return Transaction.builder()
+                    .transactionDate(date)
+                    .transactionType(type)
+                    .amount(amount)
+                    .description(description)
+                    .category(categoryId != null ? Category.builder().id(categoryId).build() : null)
+                    .account(Account.builder().id(accountId).build())
+                    .targetAccount(targetAccountId != null ? Account.builder().id(targetAccountId).build() : null)
+                    .notes(row.getNotes())
+                    .build();
+        }
+
+        private Long resolve(String idValue, String name, Set<Long> knownIds, Map<String, Long> idsByName, String field) {
+            if (idValue != null && !idValue.isBlank()) {
+                Long id;
+                try {
+                    id = Long.valueOf(idValue.trim());
+                } catch (NumberFormatException e) {
+                    throw new RuntimeException("Invalid " + field + "Id: " + idValue);
+                }
+                if (!knownIds.contains(id)) {
+                    throw new RuntimeException("Unknown " + field + "Id: " + id);
+                }
+                return id;
+            }
+            if (name != null && !name.isBlank()) {
+                Long id = idsByName.get(name.trim());
+                if (id == null) {
+                    throw new RuntimeException("Unknown " + field + "Name: " + name);
+                }
+                return id;
+            }
+            return null;
+        }
+
+        private String required(String value, String field) {
+            if (value == null || value.isBlank()) {
+                throw new RuntimeException(field + " is required");
+            }
+            return value;
+        }
+
+        // 예산 임계치 확인용: 카테고리가 있는 지출만 (카테고리, 계좌, 날짜) 별로 합산
+        private void publishBatch(List<Transaction> transactions) {
+            Map<ExpenseKey, BigDecimal> expenses = new HashMap<>();
+            for (Transaction transaction : transactions) {
+                if (transaction.getTransactionType() == Transaction.TransactionType.EXPENSE
+                        && transaction.getCategory() != null) {
+                    expenses.merge(new ExpenseKey(transaction.getCategory().getId(), transaction.getAccount().getId(),
+                            transaction.getTransactionDate()), transaction.getAmount(), BigDecimal::add);
+                }
+            }
+            if (expenses.isEmpty()) {
+                return;
+            }
+            eventPublisher.publishEvent(new TransactionBatchImportedEvent(job.getUserId(), job.getId(),
+                    expenses.entrySet().stream()
+                            .map(e -> new TransactionBatchImportedEvent.ExpenseTotal(e.getKey().categoryId(),
+                                    e.getKey().accountId(), e.getKey().date(), e.getValue()))
+                            .toList()));
+        }
+
+        // 배치 내 거래를 롤업 키별로 합산하여 키당 한 번만 갱신
+        private void applyRollup(List<Transaction> transactions) {
+            Map<RollupKey, BigDecimal> amounts = new HashMap<>();
+            Map<RollupKey, Long> counts = new HashMap<>();
+            for (Transaction transaction : transactions) {
+                RollupKey key = new RollupKey(
+                        transaction.getTransactionDate(),
+                        transaction.getTransactionType(),
+                        transaction.getCategory() != null ? transaction.getCategory().getId() : null);
+                amounts.merge(key, transaction.getAmount(), BigDecimal::add);
+                counts.merge(key, 1L, Long::sum);
+            }
+            amounts.forEach((key, amount) -> dailyUserTotalService.applyDelta(
+                    job.getUserId(), key.date(), key.type(), key.categoryId(), amount, counts.get(key)));
+        }
+    }
+
+    // 배치 전체의 증감을 (계좌, 월) 단위로 합쳐 계좌당 한 번만 갱신
+    private void applyBalances(List<Transaction> transactions) {
+        Map<AccountBalanceService.AccountMonth, BigDecimal> deltas = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            AccountBalanceService.collectDeltas(deltas, transaction.getTransactionType(), transaction.getAmount(),
+                    transaction.getTransactionDate(), transaction.getAccount().getId(),
+                    transaction.getTargetAccount() != null ? transaction.getTargetAccount().getId() : null);
+        }
+        accountBalanceService.applyDeltas(deltas);
+    }
+
+    private record RollupKey(LocalDate date, Transaction.TransactionType type, Long categoryId) {
+    }
+
+    private record ExpenseKey(Long categoryId, Long accountId, LocalDate date) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.financialledge.transaction.service;
+
+import com.financialledge.common.outbox.service.OutboxService;
+import com.financialledge.transaction.entity.Transaction;
+import com.financialledge.transaction.event.TransactionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 거래 변경을 같은 DB 트랜잭션에서 아웃박스에 기록한다. payload 는 TransactionChangedEvent 의 JSON.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionOutboxWriter {
+
+    public static final String AGGREGATE_TYPE = "Transaction";
+
+    private final OutboxService outboxService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        write(event);
+    }
+
+    // 대량 가져오기: 배치 트랜잭션 안에서 거래별로 호출
+    public void created(Long userId, Transaction transaction) {
+        write(TransactionChangedEvent.created(userId, transaction));
+    }
+
+    private void write(TransactionChangedEvent event) {
+        String eventType = event.before() == null ? OutboxService.CREATED
+                : event.after() == null ? OutboxService.DELETED : OutboxService.UPDATED;
+        outboxService.append(AGGREGATE_TYPE, event.transactionId(), eventType, event.userId(), event);
+    }
+}
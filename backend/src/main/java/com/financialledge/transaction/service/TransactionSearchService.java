@@ -0,0 +1,151 @@
+package com.financialledge.transaction.service;
+
+import com.financialledge.transaction.dto.TransactionPageResponse;
+import com.financialledge.transaction.dto.TransactionResponse;
+import com.financialledge.transaction.dto.TransactionSearchCursor;
+import com.financialledge.transaction.dto.TransactionSearchHit;
+import com.financialledge.transaction.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 거래 description/notes 검색.
+ * 검색어는 글자/숫자 단위 토큰으로 나누고, 모든 토큰이 (접두어로) 들어 있는 거래를 점수순으로 돌려준다.
+ * - PostgreSQL: 가중 tsvector + GIN (V11, V14), 점수는 ts_rank (description > notes).
+ *   GIN 은 일치 여부만 알려 주고 점수는 일치한 행마다 계산하며, 페이지마다 다시 계산한다.
+ *   그래서 점수는 최근 일치부터 MAX_CANDIDATES 건씩 나눈 창(window) 안에서 매기고, 창을 다 넘기면 다음(더 오래된) 창으로
+ *   이어 간다. 결과는 창 순서(최근 먼저), 창 안에서는 점수순이며 오래된 일치도 빠지지 않는다
+ * - 그 외(H2): 정규식 대체 경로. 인덱스를 타지 않으므로 개발/테스트용
+ * 페이지는 (rank, id) keyset 커서로 넘긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TransactionSearchService implements InitializingBean {
+
+    // 토큰이 많으면 GIN 조회가 비싸진다. 그 이상은 버린다
+    private static final int MAX_TOKENS = 8;
+
+    // 점수 창 크기. 창마다(보통 페이지마다 한두 창) 최대 이만큼 ts_rank 를 계산한다
+    static final int MAX_CANDIDATES = 1_000;
+
+    private final TransactionRepository transactionRepository;
+    private final DataSource dataSource;
+
+    private boolean fullTextSearch;
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+            fullTextSearch = product.contains("postgresql");
+        }
+        if (!fullTextSearch) {
+            log.info("Transaction search uses the regex fallback (no full-text index on this database)");
+        }
+    }
+
+    public TransactionPageResponse search(Long userId, String query, String cursor, Integer size) {
+        int pageSize = size == null
+                ? TransactionService.DEFAULT_PAGE_SIZE
+                : Math.min(Math.max(size, 1), TransactionService.MAX_PAGE_SIZE);
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            throw new RuntimeException("Search query must contain letters or digits");
+        }
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        int limit = pageSize + 1;
+
+        TransactionSearchCursor after = cursor == null || cursor.isBlank() ? null : TransactionSearchCursor.decode(cursor);
+        List<TransactionSearchHit> hits = new ArrayList<>();
+        // 각 결과가 나온 점수 창 (커서에 담는다)
+        List<Long> windows = new ArrayList<>();
+        if (fullTextSearch) {
+            // 각 토큰을 접두어 검색으로: "star buck" -> "star:* & buck:*"
+            String tsQuery = tokens.stream().map(token -> token + ":*").collect(Collectors.joining(" & "));
+            long window = after == null ? Long.MAX_VALUE : after.getWindow();
+            while (true) {
+                int remaining = limit - hits.size();
+                List<TransactionSearchHit> page = after == null
+                        ? transactionRepository.searchFirstPage(userId, tsQuery, window, MAX_CANDIDATES, remaining)
+                        : transactionRepository.searchPageAfter(userId, tsQuery, window, MAX_CANDIDATES,
+                                after.getRank(), after.getId(), remaining);
+                hits.addAll(page);
+                windows.addAll(Collections.nCopies(page.size(), window));
+                if (hits.size() >= limit) {
+                    break;
+                }
+                // 창을 다 넘김: 가득 찬 창이었으면 그보다 오래된 일치로 이어 간다
+                Long floor = transactionRepository.searchWindowFloor(userId, tsQuery, window, MAX_CANDIDATES);
+                if (floor == null) {
+                    break;
+                }
+                window = floor;
+                after = null;
+            }
+        } else {
+            String pattern = wordPrefixPattern(tokens);
+            hits.addAll(after == null
+                    ? transactionRepository.fallbackSearchFirstPage(userId, pattern, limit)
+                    : transactionRepository.fallbackSearchPageAfter(userId, pattern, after.getRank(), after.getId(), limit));
+            hits.forEach(hit -> windows.add(Long.MAX_VALUE));
+        }
+
+        boolean hasNext = hits.size() > pageSize;
+        List<TransactionSearchHit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+        String nextCursor = hasNext
+                ? TransactionSearchCursor.from(windows.get(pageSize - 1), pageHits.get(pageSize - 1)).encode()
+                : null;
+
+        // 점수 순서를 유지한 채 응답 행을 한 쿼리로 채운다
+        Map<Long, TransactionResponse> byId = transactionRepository
+                .findResponsesByUserIdAndIdIn(userId, pageHits.stream().map(TransactionSearchHit::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(TransactionResponse::getId, Function.identity()));
+        List<TransactionResponse> content = pageHits.stream()
+                .map(hit -> byId.get(hit.getId()))
+                .toList();
+
+        return TransactionPageResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // "star buck" -> 토큰마다 "어딘가에 단어가 그 토큰으로 시작한다" 는 lookahead. 토큰은 글자/숫자뿐이라 이스케이프가 필요 없다
+    static String wordPrefixPattern(List<String> tokens) {
+        return "^" + tokens.stream()
+                .map(token -> "(?=.*(^|[^\\p{L}\\p{N}])" + token + ")")
+                .collect(Collectors.joining());
+    }
+
+    // 글자/숫자 이외는 구분자로 본다. to_tsquery 연산자나 정규식 메타 문자가 검색어로 들어오지 않는다
+    static List<String> tokenize(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        return Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .limit(MAX_TOKENS)
+                .toList();
+    }
+}
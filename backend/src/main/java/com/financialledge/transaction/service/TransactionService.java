@@ -2,9 +2,15 @@ package com.financialledge.transaction.service;
 
 import com.financialledge.auth.entity.User;
 import com.financialledge.auth.repository.UserRepository;
+import com.financialledge.transaction.dto.TransactionCursor;
+import com.financialledge.transaction.dto.TransactionPageResponse;
+import com.financialledge.transaction.dto.TransactionResponse;
 import com.financialledge.transaction.entity.Transaction;
+import com.financialledge.transaction.event.TransactionChangedEvent;
 import com.financialledge.transaction.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,44 +21,77 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class TransactionService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final TransactionRepository transactionRepository;
     private final UserRepository userRepository;
+    private final DailyUserTotalService dailyUserTotalService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public List<Transaction> getAllTransactions(Long userId) {
-        return transactionRepository.findByUserIdOrderByTransactionDateDescAndUpdatedAtDesc(userId);
+    public List<TransactionResponse> getAllTransactions(Long userId) {
+        return transactionRepository.findResponsesByUserId(userId);
     }
 
-    public Transaction getTransactionById(Long id, Long userId) {
-        Transaction transaction = transactionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Transaction not found with id: " + id));
-        if (!transaction.getUserId().equals(userId)) {
-            throw new RuntimeException("Transaction not found with id: " + id);
+    public TransactionPageResponse getTransactionPage(Long userId, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<TransactionResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = transactionRepository.findFirstPageByUserId(userId, limit);
+        } else {
+            TransactionCursor after = TransactionCursor.decode(cursor);
+            rows = transactionRepository.findPageByUserIdAfter(
+                    userId, after.getTransactionDate(), after.getUpdatedAt(), after.getId(), limit);
         }
-        return transaction;
+
+        boolean hasNext = rows.size() > pageSize;
+        List<TransactionResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? TransactionCursor.from(content.get(content.size() - 1)).encode() : null;
+
+        return TransactionPageResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public TransactionResponse getTransactionById(Long id, Long userId) {
+        return transactionRepository.findResponseByIdAndUserId(id, userId)
+                .orElseThrow(() -> new RuntimeException("Transaction not found with id: " + id));
     }
 
-    public List<Transaction> getTransactionsByType(Long userId, Transaction.TransactionType type) {
-        return transactionRepository.findByUserIdAndTransactionType(userId, type);
+    public List<TransactionResponse> getTransactionsByType(Long userId, Transaction.TransactionType type) {
+        return transactionRepository.findResponsesByUserIdAndTransactionType(userId, type);
     }
 
-    public List<Transaction> getTransactionsByCategoryId(Long userId, Long categoryId) {
-        return transactionRepository.findByUserIdAndCategoryId(userId, categoryId);
+    public List<TransactionResponse> getTransactionsByCategoryId(Long userId, Long categoryId) {
+        return transactionRepository.findResponsesByUserIdAndCategoryId(userId, categoryId);
     }
 
-    public List<Transaction> getTransactionsByAccountId(Long userId, Long accountId) {
-        return transactionRepository.findByUserIdAndAccountId(userId, accountId);
+    public List<TransactionResponse> getTransactionsByAccountId(Long userId, Long accountId) {
+        return transactionRepository.findResponsesByUserIdAndAccountId(userId, accountId);
     }
 
     @Transactional
-    public Transaction createTransaction(Transaction transaction, Long userId) {
+    public TransactionResponse createTransaction(Transaction transaction, Long userId) {
         User user = userRepository.getReferenceById(userId);
         transaction.setUser(user);
-        return transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        dailyUserTotalService.add(userId, savedTransaction);
+        eventPublisher.publishEvent(TransactionChangedEvent.created(userId, savedTransaction));
+        // 요청 본문의 카테고리/계좌는 id 만 있으므로 이름을 포함해 다시 조회 (조회 전 자동 flush)
+        return getTransactionById(savedTransaction.getId(), userId);
     }
 
     @Transactional
-    public Transaction updateTransaction(Long id, Transaction transaction, Long userId) {
-        Transaction existingTransaction = getTransactionById(id, userId);
+    public TransactionResponse updateTransaction(Long id, Transaction transaction, Long userId) {
+        Transaction existingTransaction = getOwnedTransaction(id, userId);
+        TransactionChangedEvent.Snapshot before = TransactionChangedEvent.Snapshot.of(existingTransaction);
+        dailyUserTotalService.remove(userId, existingTransaction);
         existingTransaction.setTransactionDate(transaction.getTransactionDate());
         existingTransaction.setDescription(transaction.getDescription());
         existingTransaction.setAmount(transaction.getAmount());
@@ -61,12 +100,26 @@ public class TransactionService {
         existingTransaction.setAccount(transaction.getAccount());
         existingTransaction.setTargetAccount(transaction.getTargetAccount());
         existingTransaction.setNotes(transaction.getNotes());
-        return transactionRepository.save(existingTransaction);
+        dailyUserTotalService.add(userId, existingTransaction);
+        eventPublisher.publishEvent(TransactionChangedEvent.updated(userId, before, existingTransaction));
+        transactionRepository.save(existingTransaction);
+        return getTransactionById(id, userId);
     }
 
     @Transactional
     public void deleteTransaction(Long id, Long userId) {
-        Transaction transaction = getTransactionById(id, userId);
+        Transaction transaction = getOwnedTransaction(id, userId);
+        dailyUserTotalService.remove(userId, transaction);
+        eventPublisher.publishEvent(TransactionChangedEvent.deleted(userId, transaction));
         transactionRepository.delete(transaction);
     }
+
+    private Transaction getOwnedTransaction(Long id, Long userId) {
+        Transaction transaction = transactionRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Transaction not found with id: " + id));
+        if (!transaction.getUserId().equals(userId)) {
+            throw new RuntimeException("Transaction not found with id: " + id);
+        }
+        return transaction;
+    }
 }
@@ -0,0 +1,90 @@
+package com.financialledge.transaction.service;
+
+import com.financialledge.category.dto.CategoryRollup;
+import com.financialledge.category.repository.CategoryRepository;
+import com.financialledge.transaction.dto.CategoryTotal;
+import com.financialledge.transaction.dto.DailyTotal;
+import com.financialledge.transaction.dto.MonthlyTotal;
+import com.financialledge.transaction.dto.TransactionSummaryResponse;
+import com.financialledge.transaction.dto.TypeTotal;
+import com.financialledge.transaction.entity.Transaction;
+import com.financialledge.transaction.repository.DailyUserTotalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간별 합계 조회. 거래 건수가 아닌 조회 일수에 비례하도록 daily_user_totals 롤업을 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TransactionSummaryService {
+
+    private final DailyUserTotalRepository dailyUserTotalRepository;
+    private final CategoryRepository categoryRepository;
+
+    public TransactionSummaryResponse getSummary(Long userId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        List<TypeTotal> byType = dailyUserTotalRepository.sumByType(userId, from, to);
+
+        BigDecimal totalIncome = totalOf(byType, Transaction.TransactionType.INCOME);
+        BigDecimal totalExpense = totalOf(byType, Transaction.TransactionType.EXPENSE);
+
+        return TransactionSummaryResponse.builder()
+                .from(from)
+                .to(to)
+                .totalIncome(totalIncome)
+                .totalExpense(totalExpense)
+                .balance(totalIncome.subtract(totalExpense))
+                .byType(byType)
+                .build();
+    }
+
+    public List<DailyTotal> getDailyTotals(Long userId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return dailyUserTotalRepository.sumByDay(userId, from, to);
+    }
+
+    public List<MonthlyTotal> getMonthlyTotals(Long userId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return dailyUserTotalRepository.sumByMonth(userId, from, to);
+    }
+
+    public List<CategoryTotal> getCategoryTotals(Long userId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return dailyUserTotalRepository.sumByCategory(userId, from, to);
+    }
+
+    // 하위 카테고리까지 합산한 카테고리별 합계
+    public List<CategoryRollup> getRolledUpCategoryTotals(Long userId, Transaction.TransactionType type,
+                                                          LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return categoryRepository.sumRolledUpByCategory(userId, type.name(), from, to);
+    }
+
+    public CategoryRollup getRolledUpCategoryTotal(Long userId, Long categoryId, Transaction.TransactionType type,
+                                                   LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return categoryRepository.sumRolledUp(userId, categoryId, type.name(), from, to)
+                .orElseThrow(() -> new RuntimeException("Category not found with id: " + categoryId));
+    }
+
+    private BigDecimal totalOf(List<TypeTotal> totals, Transaction.TransactionType type) {
+        return totals.stream()
+                .filter(total -> total.getTransactionType() == type)
+                .map(TypeTotal::getTotal)
+                .findFirst()
+                .orElse(BigDecimal.ZERO);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new RuntimeException("Invalid date range: from must not be after to");
+        }
+    }
+}
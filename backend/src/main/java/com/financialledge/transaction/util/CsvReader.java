@@ -0,0 +1,79 @@
+package com.financialledge.transaction.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 를 한 레코드씩 읽는다. 따옴표 안의 쉼표, 이스케이프된 따옴표, 줄바꿈을 지원한다.
+ */
+public class CsvReader implements Closeable {
+
+    private final BufferedReader reader;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * 다음 레코드를 반환한다. 입력이 끝나면 null.
+     */
+    public List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i >= line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                // 따옴표 안의 줄바꿈: 다음 줄을 이어서 읽는다
+                String next = reader.readLine();
+                if (next == null) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                field.append('\n');
+                line = next;
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+            i++;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
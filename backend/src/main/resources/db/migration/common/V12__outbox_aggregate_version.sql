@@ -0,0 +1,10 @@
+-- 아웃박스 id 는 커밋 순서가 아니므로 집계(aggregate)별 버전으로 순서를 정한다
+alter table outbox_events add column aggregate_version bigint not null default 1;
+
+-- 집계별 마지막 버전. 생성 이벤트(버전 1)는 행을 만들지 않고, 첫 수정 때 만든다
+create table outbox_aggregate_versions (
+    aggregate_type varchar(50) not null,
+    aggregate_id bigint not null,
+    version bigint not null,
+    primary key (aggregate_type, aggregate_id)
+);
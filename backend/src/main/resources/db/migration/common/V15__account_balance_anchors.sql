@@ -0,0 +1,35 @@
+-- 과거 시점 잔액을 현재 잔액에서 거꾸로 빼지 않고 체크포인트(그 날짜의 잔액)에서 앞으로 더해 계산한다
+
+-- 잔액 수동 보정 기록. 보정일부터 잔액에 반영된다
+create table account_balance_adjustments (
+    id bigint generated by default as identity,
+    account_id bigint not null,
+    adjustment_date date not null,
+    amount numeric(19,2) not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_account_balance_adjustments_account_date on account_balance_adjustments (account_id, adjustment_date);
+
+-- 체크포인트는 누적 증감 대신 그 날짜의 잔액을 저장한다
+alter table account_balance_checkpoints rename column net_change to balance;
+
+-- 개설 잔액 = 현재 잔액 - 전체 거래 증감 (지금까지의 수동 보정은 개설 잔액에 포함된다)
+update account_balance_checkpoints c
+set balance = c.balance + (select a.balance from accounts a where a.id = c.account_id)
+    - coalesce((select sum(case when t.transaction_type = 'INCOME' then t.amount else -t.amount end)
+                from transactions t where t.account_id = c.account_id), 0)
+    - coalesce((select sum(t.amount) from transactions t
+                where t.target_account_id = c.account_id and t.transaction_type = 'TRANSFER'), 0);
+
+-- 계좌마다 개설 체크포인트 (0001-01-01). 첫 월말 체크포인트 이전 시점은 여기서부터 더한다
+insert into account_balance_checkpoints (account_id, checkpoint_date, balance, updated_at)
+select a.id, date '0001-01-01',
+       a.balance
+       - coalesce((select sum(case when t.transaction_type = 'INCOME' then t.amount else -t.amount end)
+                   from transactions t where t.account_id = a.id), 0)
+       - coalesce((select sum(t.amount) from transactions t
+                   where t.target_account_id = a.id and t.transaction_type = 'TRANSFER'), 0),
+       current_timestamp
+from accounts a;
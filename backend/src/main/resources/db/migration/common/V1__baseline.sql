@@ -0,0 +1,107 @@
+-- Flyway 도입 전 ddl-auto 가 만들던 스키마 그대로. 이미 테이블이 있는 DB 는 baseline-on-migrate 로
+-- 이 버전을 건너뛰므로, 그 뒤에 추가된 테이블/컬럼/시퀀스/인덱스는 전부 V2 이후에 둔다
+-- H2(PostgreSQL 모드)와 PostgreSQL 에서 모두 실행되는 문법만 사용
+
+create table users (
+    id bigint generated by default as identity,
+    username varchar(100) not null unique,
+    email varchar(255) not null unique,
+    password varchar(255) not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table roles (
+    id bigint generated by default as identity,
+    name varchar(50) not null unique,
+    description varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table user_roles (
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    role_id bigint not null,
+    created_at timestamp(6),
+    primary key (id)
+);
+
+create table accounts (
+    id bigint generated by default as identity,
+    name varchar(100) not null,
+    account_type varchar(50) not null
+        check (account_type in ('CASH','BANK','CARD','CREDIT_CARD','INVESTMENT','SAVINGS')),
+    balance numeric(15,2) not null,
+    currency varchar(10) not null,
+    description text,
+    is_active boolean not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table categories (
+    id bigint generated by default as identity,
+    name varchar(100) not null,
+    description text,
+    color varchar(7),
+    icon varchar(50),
+    parent_id bigint,
+    transaction_type varchar(20) not null check (transaction_type in ('INCOME','EXPENSE','BOTH')),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table tags (
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    name varchar(50) not null,
+    color varchar(7),
+    created_at timestamp(6),
+    primary key (id),
+    unique (user_id, name)
+);
+
+create table transactions (
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    transaction_date date not null,
+    description varchar(255) not null,
+    amount numeric(15,2) not null,
+    transaction_type varchar(20) not null check (transaction_type in ('INCOME','EXPENSE','TRANSFER')),
+    category_id bigint,
+    account_id bigint not null,
+    target_account_id bigint,
+    notes text,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table budgets (
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    category_id bigint not null,
+    account_id bigint,
+    amount numeric(15,2) not null,
+    period_type varchar(20) not null check (period_type in ('DAILY','WEEKLY','MONTHLY','YEARLY')),
+    start_date date not null,
+    end_date date,
+    is_active boolean not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+alter table categories add constraint fk_categories_parent foreign key (parent_id) references categories;
+alter table transactions add constraint fk_transactions_user foreign key (user_id) references users;
+alter table transactions add constraint fk_transactions_category foreign key (category_id) references categories;
+alter table transactions add constraint fk_transactions_account foreign key (account_id) references accounts;
+alter table transactions add constraint fk_transactions_target_account foreign key (target_account_id) references accounts;
+alter table budgets add constraint fk_budgets_user foreign key (user_id) references users;
+alter table budgets add constraint fk_budgets_category foreign key (category_id) references categories;
+alter table budgets add constraint fk_budgets_account foreign key (account_id) references accounts;
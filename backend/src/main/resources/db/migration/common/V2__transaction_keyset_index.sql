@@ -0,0 +1,3 @@
+-- 거래 목록 keyset 페이지네이션 (TransactionRepository.findPageByUserIdAfter 의 정렬 순서)
+create index idx_transactions_user_date_updated_id
+    on transactions (user_id, transaction_date desc, updated_at desc, id desc);
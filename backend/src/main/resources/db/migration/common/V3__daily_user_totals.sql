@@ -0,0 +1,23 @@
+-- 사용자/일자/유형/카테고리별 거래 합계 롤업
+create sequence if not exists daily_user_totals_seq start with 1 increment by 50;
+
+create table daily_user_totals (
+    id bigint not null,
+    user_id bigint not null,
+    total_date date not null,
+    transaction_type varchar(20) not null check (transaction_type in ('INCOME','EXPENSE','TRANSFER')),
+    category_id bigint not null,
+    total_amount numeric(15,2) not null,
+    transaction_count bigint not null,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint uk_daily_user_totals_key unique (user_id, total_date, transaction_type, category_id)
+);
+
+-- 기존 거래로 채운다 (DailyUserTotalRepository.rebuildForUser 와 같은 집계, 카테고리 없음은 0)
+insert into daily_user_totals
+    (id, user_id, total_date, transaction_type, category_id, total_amount, transaction_count, updated_at)
+select nextval('daily_user_totals_seq'), user_id, transaction_date, transaction_type, coalesce(category_id, 0),
+       sum(amount), count(*), current_timestamp
+from transactions
+group by user_id, transaction_date, transaction_type, coalesce(category_id, 0);
@@ -0,0 +1,4 @@
+-- 거래 id 를 IDENTITY 에서 pooled 시퀀스로 (INSERT 배치용).
+-- 기존 거래가 있는 DB 에서는 IdSequenceInitializer 가 시퀀스를 MAX(id) 이후로 맞춘다.
+-- 그쪽이 먼저 실행되어 시퀀스를 만들었을 수 있으므로 if not exists
+create sequence if not exists transactions_seq start with 1 increment by 50;
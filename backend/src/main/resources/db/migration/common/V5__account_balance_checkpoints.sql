@@ -0,0 +1,14 @@
+-- 계좌 월말 잔액 체크포인트
+create table account_balance_checkpoints (
+    id bigint generated by default as identity,
+    account_id bigint not null,
+    checkpoint_date date not null,
+    net_change numeric(19,2) not null,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint uk_account_balance_checkpoints_key unique (account_id, checkpoint_date)
+);
+
+-- 체크포인트 구간 합산: account_id = ? AND transaction_date BETWEEN ? AND ?
+create index idx_transactions_account_date on transactions (account_id, transaction_date);
+create index idx_transactions_target_account_date on transactions (target_account_id, transaction_date);
@@ -0,0 +1,13 @@
+-- 거래 변경 이벤트 outbox
+create sequence if not exists outbox_events_seq start with 1 increment by 50;
+
+create table outbox_events (
+    id bigint not null,
+    aggregate_type varchar(50) not null,
+    aggregate_id bigint not null,
+    event_type varchar(50) not null,
+    user_id bigint,
+    payload text not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
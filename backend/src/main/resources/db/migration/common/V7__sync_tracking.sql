@@ -0,0 +1,15 @@
+-- 델타 동기화(/api/sync): 변경 시각과 삭제 기록
+alter table tags add column updated_at timestamp(6);
+
+create table sync_tombstones (
+    id bigint generated by default as identity,
+    entity_type varchar(20) not null
+        check (entity_type in ('TRANSACTION','CATEGORY','ACCOUNT','BUDGET','TAG')),
+    entity_id bigint not null,
+    user_id bigint,
+    deleted_at timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_sync_tombstones_deleted_at on sync_tombstones (deleted_at);
+create index idx_transactions_user_updated_id on transactions (user_id, updated_at, id);
@@ -0,0 +1,5 @@
+-- 거래 변경마다 해당 카테고리의 예산 조회 (예산 알림)
+create index idx_budgets_user_category on budgets (user_id, category_id);
+
+-- 하위 카테고리 탐색 (재귀 CTE)
+create index idx_categories_parent on categories (parent_id);
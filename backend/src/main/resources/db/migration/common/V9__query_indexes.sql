@@ -0,0 +1,21 @@
+-- TransactionRepository / BudgetRepository 조회 모양에 맞춘 복합 인덱스
+
+-- 유형별 목록: user_id = ? AND transaction_type = ? ORDER BY transaction_date DESC, updated_at DESC
+create index idx_transactions_user_type_date
+    on transactions (user_id, transaction_type, transaction_date desc, updated_at desc);
+
+-- 카테고리별 목록 + 카테고리 삭제 시 FK 확인
+create index idx_transactions_user_category_date
+    on transactions (user_id, category_id, transaction_date desc, updated_at desc);
+
+-- 기간 합산(daily_user_totals 재구성, 내보내기): user_id = ? AND transaction_date BETWEEN ? AND ?
+-- 는 idx_transactions_user_date_updated_id 가 처리한다
+
+-- 계좌별 예산
+create index idx_budgets_user_account on budgets (user_id, account_id);
+
+-- 로그인/토큰 검증마다 역할 조회
+create index idx_user_roles_user on user_roles (user_id);
+
+-- 동기화 삭제 기록: (user_id = ? OR user_id IS NULL) AND deleted_at > ?
+create index idx_sync_tombstones_user_deleted_at on sync_tombstones (user_id, deleted_at);
@@ -0,0 +1,9 @@
+-- PostgreSQL 전용 부분 인덱스 (H2 는 WHERE 절 인덱스를 지원하지 않음)
+
+-- 활성 예산만 조회: user_id = ? AND is_active = true. 비활성 예산은 인덱스에 넣지 않는다
+create index idx_budgets_user_active on budgets (user_id, category_id) where is_active;
+
+-- 이체 입금 합산: target_account_id 는 TRANSFER 에만 있으므로 NULL 행은 뺀다
+drop index if exists idx_transactions_target_account_date;
+create index idx_transactions_target_account_date
+    on transactions (target_account_id, transaction_date) where target_account_id is not null;
@@ -0,0 +1,21 @@
+-- 거래 검색 (/api/transactions/search): description(A) + notes(B) 가중 tsvector
+-- 가맹점 이름은 사전 단어가 아니므로 어간 추출 없는 'simple' 설정을 쓴다.
+-- 생성 컬럼(STORED)을 추가하면 테이블 전체를 다시 쓰며 그동안 쓰기가 막히므로,
+-- 값 없는 컬럼만 추가하고(메타데이터만 변경) 트리거로 채운다. 기존 행은 V13, 인덱스는 V14 (엔티티에는 매핑하지 않음)
+alter table transactions add column search_vector tsvector;
+
+create or replace function transactions_search_vector() returns trigger as $$
+begin
+    new.search_vector :=
+        setweight(to_tsvector('simple', coalesce(new.description, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(new.notes, '')), 'B');
+    return new;
+end
+$$ language plpgsql;
+
+create trigger trg_transactions_search_vector
+    before insert or update of description, notes on transactions
+    for each row execute function transactions_search_vector();
+
+-- btree_gin 이 bigint 를 GIN 에 넣게 해 준다 (V14 의 (user_id, search_vector) 인덱스)
+create extension if not exists btree_gin;
@@ -0,0 +1,21 @@
+-- 기존 거래의 search_vector 를 id 구간별로 채운다. 구간마다 커밋해 행 락을 오래 잡지 않는다
+-- (V13__transaction_search_backfill.sql.conf: 트랜잭션 밖에서 실행해야 DO 블록 안의 COMMIT 이 가능)
+-- 채우는 동안 새로 쓰인 행은 V11 트리거가 채우며, 아직 안 채워진 행은 검색에 나오지 않는다
+do $$
+declare
+    batch_size constant bigint := 10000;
+    next_id bigint;
+    max_id bigint;
+begin
+    select min(id), max(id) into next_id, max_id from transactions;
+    while next_id <= max_id loop
+        update transactions
+        set search_vector =
+            setweight(to_tsvector('simple', coalesce(description, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(notes, '')), 'B')
+        where id >= next_id and id < next_id + batch_size and search_vector is null;
+        commit;
+        next_id := next_id + batch_size;
+    end loop;
+end
+$$;
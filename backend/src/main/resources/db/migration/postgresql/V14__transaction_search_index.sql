@@ -0,0 +1,4 @@
+-- user_id = ? AND search_vector @@ ? 를 한 GIN 인덱스로. CONCURRENTLY 라 만드는 동안에도 쓰기가 막히지 않는다
+-- (V14__transaction_search_index.sql.conf: CONCURRENTLY 는 트랜잭션 안에서 실행할 수 없다)
+-- 중간에 실패하면 INVALID 인덱스가 남으므로 지우고 다시 실행한다
+create index concurrently if not exists idx_transactions_user_search on transactions using gin (user_id, search_vector);
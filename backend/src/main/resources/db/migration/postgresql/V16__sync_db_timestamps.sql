@@ -0,0 +1,29 @@
+-- 동기화 대상 테이블의 변경 시각을 DB 가 찍는다 (애플리케이션 시계/커밋 지연과 무관하게 상한 판단).
+-- statement_timestamp() 는 그 트랜잭션의 xact_start 이후이므로, 열린 트랜잭션 중 가장 오래된 시작 시각보다
+-- 앞선 구간에는 더 이상 커밋될 변경이 없다 (SyncChangeRepository.findOpenTransactionWatermark)
+create or replace function sync_stamp_updated_at() returns trigger as $$
+begin
+    new.updated_at := statement_timestamp()::timestamp;
+    return new;
+end
+$$ language plpgsql;
+
+create or replace function sync_stamp_deleted_at() returns trigger as $$
+begin
+    new.deleted_at := statement_timestamp()::timestamp;
+    return new;
+end
+$$ language plpgsql;
+
+create trigger trg_transactions_updated_at before insert or update on transactions
+    for each row execute function sync_stamp_updated_at();
+create trigger trg_categories_updated_at before insert or update on categories
+    for each row execute function sync_stamp_updated_at();
+create trigger trg_accounts_updated_at before insert or update on accounts
+    for each row execute function sync_stamp_updated_at();
+create trigger trg_budgets_updated_at before insert or update on budgets
+    for each row execute function sync_stamp_updated_at();
+create trigger trg_tags_updated_at before insert or update on tags
+    for each row execute function sync_stamp_updated_at();
+create trigger trg_sync_tombstones_deleted_at before insert on sync_tombstones
+    for each row execute function sync_stamp_deleted_at();
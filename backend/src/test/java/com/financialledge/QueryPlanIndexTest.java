@@ -0,0 +1,254 @@
+package com.financialledge;
+
+import com.financialledge.account.repository.AccountBalanceCheckpointRepository;
+import com.financialledge.auth.repository.UserRoleRepository;
+import com.financialledge.budget.repository.BudgetRepository;
+import com.financialledge.category.repository.CategoryRepository;
+import com.financialledge.sync.repository.SyncChangeRepository;
+import com.financialledge.sync.repository.SyncTombstoneRepository;
+import com.financialledge.tag.repository.TagRepository;
+import com.financialledge.transaction.entity.Transaction;
+import com.financialledge.transaction.repository.DailyUserTotalRepository;
+import com.financialledge.transaction.repository.TransactionRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 쓰는 리포지토리 조회가 db/migration 의 인덱스를 타는지 EXPLAIN 으로 확인.
+ * 리포지토리 메서드를 실제로 호출하고 Hibernate 가 보낸 SQL 을 그대로 EXPLAIN 한다 (파라미터는 바인딩하지 않음).
+ * 임베디드 H2(PostgreSQL 모드)에는 common 마이그레이션만 적용된다 (부분 인덱스는 PostgreSQL 전용).
+ * H2 실행 계획에서 전체 스캔은 "tableScan" 으로, 인덱스는 "PUBLIC.인덱스명" 으로 표시된다.
+ * H2 는 FK 마다 인덱스를 따로 만들지만 PostgreSQL 은 만들지 않으므로, FK 를 지우고 마이그레이션이 만든 인덱스만 남긴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanIndexTest {
+
+    private static final Long USER_ID = 7L;
+
+    // 테스트 스레드에서 실행된 SQL 만 모은다 (스케줄러 등 다른 스레드의 조회는 제외)
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private AccountBalanceCheckpointRepository checkpointRepository;
+    @Autowired
+    private DailyUserTotalRepository dailyUserTotalRepository;
+    @Autowired
+    private BudgetRepository budgetRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private SyncChangeRepository syncChangeRepository;
+    @Autowired
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        // MetricsConfig 의 StatementInspector 를 감싼다. 기본 순서(LOWEST_PRECEDENCE)라 그 뒤에 적용된다
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer() {
+            return new SqlCaptureCustomizer();
+        }
+    }
+
+    private static final class SqlCaptureCustomizer implements HibernatePropertiesCustomizer, Ordered {
+
+        @Override
+        public void customize(Map<String, Object> hibernateProperties) {
+            StatementInspector delegate = (StatementInspector) hibernateProperties.get(AvailableSettings.STATEMENT_INSPECTOR);
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                String inspected = delegate != null ? delegate.inspect(sql) : sql;
+                List<String> captured = CAPTURED.get();
+                if (captured != null) {
+                    captured.add(inspected);
+                }
+                return inspected;
+            });
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+
+    @BeforeAll
+    void setUp() {
+        dropForeignKeys();
+        seed();
+    }
+
+    Stream<Arguments> hotQueries() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        LocalDateTime since = LocalDateTime.of(2025, 5, 1, 0, 0);
+        LocalDateTime until = LocalDateTime.of(2025, 6, 1, 0, 0);
+        List<Long> categoryIds = List.of(3L, 4L);
+        // H2 는 ORDER BY 를 보고 인덱스를 고르지 않아서, 페이지 조회는 user_id 로 시작하는 인덱스인지만 확인한다
+        return Stream.of(
+                hotQuery("transactions first page", "idx_transactions_user_",
+                        () -> transactionRepository.findFirstPageByUserId(USER_ID, Limit.of(51))),
+                hotQuery("transactions keyset page", "idx_transactions_user_",
+                        () -> transactionRepository.findPageByUserIdAfter(USER_ID, LocalDate.of(2025, 6, 1),
+                                LocalDateTime.of(2025, 6, 1, 10, 0), 5000L, Limit.of(51))),
+                hotQuery("transactions by type", "idx_transactions_user_type_date",
+                        () -> transactionRepository.findResponsesByUserIdAndTransactionType(USER_ID,
+                                Transaction.TransactionType.EXPENSE)),
+                hotQuery("transactions by category", "idx_transactions_user_category_date",
+                        () -> transactionRepository.findResponsesByUserIdAndCategoryId(USER_ID, 3L)),
+                hotQuery("transactions by account", "idx_transactions_account_date",
+                        () -> transactionRepository.findResponsesByUserIdAndAccountId(USER_ID, 2L)),
+                hotQuery("transactions by date range", "idx_transactions_user_date_updated_id",
+                        () -> transactionTemplate.executeWithoutResult(status -> {
+                            try (Stream<Transaction> transactions =
+                                         transactionRepository.streamByUserIdAndTransactionDateBetween(USER_ID, from, to)) {
+                                transactions.count();
+                            }
+                        })),
+                hotQuery("sync transaction changes", "idx_transactions_user_updated_id",
+                        () -> syncChangeRepository.findTransactions(USER_ID, since, 0L, until, Limit.of(501))),
+                hotQuery("account change since checkpoint", "idx_transactions_account_date",
+                        () -> checkpointRepository.sumAccountChange(2L, Transaction.TransactionType.INCOME, from, to)),
+                hotQuery("transfer in since checkpoint", "idx_transactions_target_account_date",
+                        () -> checkpointRepository.sumTransferIn(2L, Transaction.TransactionType.TRANSFER, from, to)),
+                hotQuery("daily totals by range", "uk_daily_user_totals_key",
+                        () -> dailyUserTotalRepository.sumByType(USER_ID, from, to)),
+                hotQuery("active budgets", "idx_budgets_user_",
+                        () -> budgetRepository.findActiveResponsesByUserId(USER_ID)),
+                hotQuery("active budgets for categories", "idx_budgets_user_category",
+                        () -> budgetRepository.findActiveByUserIdAndCategoryIdIn(USER_ID, categoryIds)),
+                hotQuery("budgets by account", "idx_budgets_user_account",
+                        () -> budgetRepository.findResponsesByUserIdAndAccountId(USER_ID, 2L)),
+                hotQuery("budget spending", "idx_transactions_user_type_date",
+                        () -> budgetRepository.sumSpending(USER_ID, Transaction.TransactionType.EXPENSE,
+                                categoryIds, from, to)),
+                hotQuery("child categories", "idx_categories_parent",
+                        () -> categoryRepository.findResponsesByParentId(3L)),
+                hotQuery("user roles", "idx_user_roles_user",
+                        () -> userRoleRepository.findByUserId(USER_ID)),
+                hotQuery("tags by user", "tags",
+                        () -> tagRepository.findByUserId(USER_ID)),
+                hotQuery("sync deletions", "idx_sync_tombstones_",
+                        () -> syncTombstoneRepository.findDeletions(USER_ID, since, until))
+        );
+    }
+
+    private static Arguments hotQuery(String name, String expectedIndex, Runnable query) {
+        return Arguments.of(name, expectedIndex, query);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesIndex(String name, String expectedIndex, Runnable query) {
+        List<String> statements = capture(query);
+        assertThat(statements).as("%s SQL", name).isNotEmpty();
+
+        // 첫 문장이 조회 본체. 나머지(연관 엔티티 로딩 등)도 전체 스캔이 없어야 한다
+        assertThat(explain(statements.get(0))).as("%s plan", name).containsIgnoringCase(expectedIndex);
+        for (String sql : statements) {
+            assertThat(explain(sql)).as("%s plan of %s", name, sql).doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    private static List<String> capture(Runnable query) {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            query.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                (ResultSetExtractor<String>) rs -> {
+                    StringBuilder plan = new StringBuilder();
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                    return plan.toString();
+                });
+    }
+
+    private void dropForeignKeys() {
+        jdbcTemplate.queryForList("SELECT table_name, constraint_name " +
+                        "FROM information_schema.table_constraints " +
+                        "WHERE table_schema = 'public' AND constraint_type = 'FOREIGN KEY'")
+                .forEach(row -> jdbcTemplate.execute(
+                        "ALTER TABLE " + row.get("table_name") + " DROP CONSTRAINT " + row.get("constraint_name")));
+    }
+
+    // 사용자 20명 x 거래 500건. 통계가 있어야 옵티마이저가 인덱스 비용을 제대로 계산한다
+    private void seed() {
+        jdbcTemplate.execute("INSERT INTO users (username, email, password) " +
+                "SELECT 'user' || x, 'user' || x || '@example.com', 'x' FROM SYSTEM_RANGE(1, 20) r(x)");
+        jdbcTemplate.execute("INSERT INTO accounts (name, account_type, balance, currency, is_active) " +
+                "SELECT 'account' || x, 'BANK', 0, 'KRW', TRUE FROM SYSTEM_RANGE(1, 10) r(x)");
+        jdbcTemplate.execute("INSERT INTO categories (name, transaction_type, parent_id) " +
+                "SELECT 'category' || x, 'EXPENSE', CASE WHEN x > 5 THEN MOD(x, 5) + 1 END FROM SYSTEM_RANGE(1, 30) r(x)");
+        jdbcTemplate.execute("INSERT INTO transactions (id, user_id, transaction_date, description, amount, " +
+                "transaction_type, category_id, account_id, target_account_id, created_at, updated_at) " +
+                "SELECT x, MOD(x, 20) + 1, DATEADD('DAY', MOD(x, 700), DATE '2024-01-01'), 'tx' || x, MOD(x, 1000), " +
+                "CASE MOD(x, 10) WHEN 0 THEN 'INCOME' WHEN 1 THEN 'TRANSFER' ELSE 'EXPENSE' END, " +
+                "MOD(x, 30) + 1, MOD(x, 10) + 1, CASE MOD(x, 10) WHEN 1 THEN MOD(x + 1, 10) + 1 END, " +
+                "TIMESTAMP '2024-01-01 00:00:00' + x * INTERVAL '1' MINUTE, " +
+                "TIMESTAMP '2024-01-01 00:00:00' + x * INTERVAL '1' MINUTE FROM SYSTEM_RANGE(1, 10000) r(x)");
+        jdbcTemplate.execute("INSERT INTO daily_user_totals (id, user_id, total_date, transaction_type, category_id, " +
+                "total_amount, transaction_count) " +
+                "SELECT x, MOD(x, 20) + 1, DATEADD('DAY', x / 20, DATE '2024-01-01'), 'EXPENSE', 0, 10, 1 " +
+                "FROM SYSTEM_RANGE(1, 5000) r(x)");
+        jdbcTemplate.execute("INSERT INTO budgets (user_id, category_id, account_id, amount, period_type, start_date, is_active) " +
+                "SELECT MOD(x, 20) + 1, MOD(x, 30) + 1, MOD(x, 10) + 1, 100, 'MONTHLY', DATE '2024-01-01', MOD(x, 3) > 0 " +
+                "FROM SYSTEM_RANGE(1, 600) r(x)");
+        jdbcTemplate.execute("INSERT INTO user_roles (user_id, role_id) SELECT x, 1 FROM SYSTEM_RANGE(1, 20) r(x)");
+        jdbcTemplate.execute("INSERT INTO tags (user_id, name) SELECT MOD(x, 20) + 1, 'tag' || x FROM SYSTEM_RANGE(1, 400) r(x)");
+        jdbcTemplate.execute("INSERT INTO sync_tombstones (entity_type, entity_id, user_id, deleted_at) " +
+                "SELECT 'TRANSACTION', x, MOD(x, 20) + 1, TIMESTAMP '2025-01-01 00:00:00' + x * INTERVAL '1' HOUR " +
+                "FROM SYSTEM_RANGE(1, 3000) r(x)");
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
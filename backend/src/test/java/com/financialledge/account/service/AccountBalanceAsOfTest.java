@@ -0,0 +1,114 @@
+package com.financialledge.account.service;
+
+import com.financialledge.account.dto.AccountBalanceResponse;
+import com.financialledge.account.entity.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 과거 시점 잔액: 가장 가까운 이전 체크포인트에서 앞으로 더하고,
+ * 잔액 보정은 보정일 이후 시점에만 반영된다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:account-balance-as-of;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class AccountBalanceAsOfTest {
+
+    private static final long USER_ID = 1L;
+
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private AccountBalanceCheckpointService checkpointService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+    private final LocalDate twoMonthsAgo = today.withDayOfMonth(1).minusMonths(2);
+    private final LocalDate lastMonth = today.withDayOfMonth(1).minusMonths(1);
+
+    private Long main;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM transactions");
+        jdbcTemplate.update("DELETE FROM account_balance_adjustments");
+        jdbcTemplate.update("DELETE FROM account_balance_checkpoints");
+        jdbcTemplate.update("DELETE FROM accounts");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("INSERT INTO users (id, username, email, password) VALUES (?, 'alice', 'alice@example.com', 'x')",
+                USER_ID);
+
+        main = accountService.createAccount(account("Main", "1000")).getId();
+        Long savings = accountService.createAccount(account("Savings", "0")).getId();
+        insert("INCOME", "300", twoMonthsAgo.plusDays(2), main, null);
+        insert("EXPENSE", "50", lastMonth.plusDays(4), main, null);
+        insert("TRANSFER", "20", lastMonth.plusDays(9), savings, main);
+    }
+
+    @Test
+    void addsChangesForwardFromTheNearestCheckpoint() {
+        assertThat(checkpointService.buildForAccount(main, today)).isEqualTo(2);
+        // 이미 만든 달은 다시 만들지 않는다
+        assertThat(checkpointService.buildForAccount(main, today)).isZero();
+
+        LocalDate twoMonthsAgoEnd = twoMonthsAgo.with(TemporalAdjusters.lastDayOfMonth());
+        LocalDate lastMonthEnd = lastMonth.with(TemporalAdjusters.lastDayOfMonth());
+
+        assertBalance(twoMonthsAgo.minusDays(1), "1000", null);
+        assertBalance(twoMonthsAgo.plusDays(2), "1300", null);
+        assertBalance(twoMonthsAgoEnd, "1300", twoMonthsAgoEnd);
+        assertBalance(lastMonth.plusDays(4), "1250", twoMonthsAgoEnd);
+        assertBalance(lastMonth.plusDays(9), "1270", twoMonthsAgoEnd);
+        assertBalance(today, "1270", lastMonthEnd);
+    }
+
+    @Test
+    void adjustmentMovesOnlyBalancesFromItsDate() {
+        checkpointService.buildForAccount(main, today);
+
+        // 현재 잔액 1000 (거래는 JDBC 로 넣어 잔액에 반영되지 않음) 을 1100 으로 보정
+        accountService.updateBalance(main, new BigDecimal("1100"));
+
+        assertBalance(today, "1370", null);
+        assertBalance(today.minusDays(1), "1270", null);
+        assertBalance(lastMonth.plusDays(4), "1250", null);
+    }
+
+    private void assertBalance(LocalDate asOf, String expected, LocalDate checkpointDate) {
+        AccountBalanceResponse response = checkpointService.getBalanceAsOf(main, asOf);
+        assertThat(response.getBalance()).as("balance as of %s", asOf).isEqualByComparingTo(expected);
+        if (checkpointDate != null) {
+            assertThat(response.getCheckpointDate()).isEqualTo(checkpointDate);
+        }
+    }
+
+    private static Account account(String name, String balance) {
+        return Account.builder()
+                .name(name)
+                .accountType(Account.AccountType.BANK)
+                .balance(new BigDecimal(balance))
+                .build();
+    }
+
+    private void insert(String type, String amount, LocalDate date, Long accountId, Long targetAccountId) {
+        jdbcTemplate.update("INSERT INTO transactions (id, user_id, transaction_date, description, amount, " +
+                        "transaction_type, account_id, target_account_id, created_at, updated_at) " +
+                        "VALUES (NEXT VALUE FOR transactions_seq, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                USER_ID, date, type, new BigDecimal(amount), type, accountId, targetAccountId);
+    }
+}
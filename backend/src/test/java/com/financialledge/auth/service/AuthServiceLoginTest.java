@@ -0,0 +1,122 @@
+package com.financialledge.auth.service;
+
+import com.financialledge.auth.dto.LoginRequest;
+import com.financialledge.auth.entity.User;
+import com.financialledge.auth.repository.RoleRepository;
+import com.financialledge.auth.repository.UserRepository;
+import com.financialledge.auth.repository.UserRoleRepository;
+import com.financialledge.auth.security.LoginThrottledException;
+import com.financialledge.auth.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 실패가 쌓이면 해시 계산 전에 429 로 막고, 로그인 성공 시 옛 형식 해시는 새 형식으로 다시 저장한다
+class AuthServiceLoginTest {
+
+    private static final String IP = "10.0.0.1";
+
+    private final BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(5);
+    private UserRepository userRepository;
+    private PasswordHashingService passwordHashingService;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        passwordHashingService = new PasswordHashingService(encoder, meterRegistry, 1, 4);
+        LoginAttemptService loginAttemptService = new LoginAttemptService(meterRegistry, 2, 20,
+                Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofMinutes(15), 1000);
+        userRepository = mock(UserRepository.class);
+        authService = new AuthService(userRepository, mock(RoleRepository.class), mock(UserRoleRepository.class),
+                passwordHashingService, loginAttemptService, mock(TransactionTemplate.class), mock(JwtUtil.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.destroy();
+    }
+
+    @Test
+    void throttlesAfterFreeAttemptsWithoutCheckingPassword() {
+        User user = user(passwordHashingService.encode("secret"));
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> authService.login(login("alice", "wrong"), IP)).hasMessageContaining("Invalid");
+        assertThatThrownBy(() -> authService.login(login("alice", "wrong"), IP)).hasMessageContaining("Invalid");
+
+        // 계정 키는 대소문자/공백을 무시한다
+        assertThatThrownBy(() -> authService.login(login(" Alice ", "secret"), IP))
+                .isInstanceOfSatisfying(LoginThrottledException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isBetween(1L, 60L));
+        verify(userRepository, times(2)).findByUsername(any());
+    }
+
+    @Test
+    void successResetsAccountFailures() {
+        User user = user(passwordHashingService.encode("secret"));
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> authService.login(login("alice", "wrong"), IP)).hasMessageContaining("Invalid");
+        authService.login(login("alice", "secret"), IP);
+        assertThatThrownBy(() -> authService.login(login("alice", "wrong"), IP)).hasMessageContaining("Invalid");
+        assertThatThrownBy(() -> authService.login(login("alice", "wrong"), IP)).hasMessageContaining("Invalid");
+    }
+
+    @Test
+    void rehashesLegacyHashOnSuccessfulLogin() {
+        // 접두사 없는 기존 BCrypt 해시
+        User user = user(bcrypt.encode("secret"));
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+
+        authService.login(login("alice", "secret"), IP);
+
+        ArgumentCaptor<String> rehashed = ArgumentCaptor.forClass(String.class);
+        verify(userRepository).updatePassword(eq(user.getId()), rehashed.capture());
+        assertThat(rehashed.getValue()).startsWith("{bcrypt}");
+        assertThat(passwordHashingService.matches("secret", rehashed.getValue())).isTrue();
+    }
+
+    @Test
+    void keepsCurrentHash() {
+        User user = user(passwordHashingService.encode("secret"));
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+
+        authService.login(login("alice", "secret"), IP);
+
+        verify(userRepository, never()).updatePassword(anyLong(), any());
+    }
+
+    private static User user(String password) {
+        return User.builder().id(7L).username("alice").email("alice@example.com").password(password).build();
+    }
+
+    private static LoginRequest login(String usernameOrEmail, String password) {
+        LoginRequest request = new LoginRequest();
+        request.setUsernameOrEmail(usernameOrEmail);
+        request.setPassword(password);
+        return request;
+    }
+}
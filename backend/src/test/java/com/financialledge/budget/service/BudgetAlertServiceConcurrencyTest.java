@@ -0,0 +1,84 @@
+package com.financialledge.budget.service;
+
+import com.financialledge.budget.dto.BudgetAlert;
+import com.financialledge.budget.dto.BudgetSpending;
+import com.financialledge.budget.entity.Budget;
+import com.financialledge.budget.repository.BudgetRepository;
+import com.financialledge.category.entity.Category;
+import com.financialledge.transaction.entity.Transaction;
+import com.financialledge.transaction.event.TransactionChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 두 변경이 모두 커밋된 뒤 두 핸들러가 동시에 누계를 처음 읽는 경우: DB 합계에 이미 들어 있는 증감을 다시 더하면 안 된다
+class BudgetAlertServiceConcurrencyTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long CATEGORY_ID = 10L;
+
+    @Test
+    void concurrentFirstLoadsDoNotDoubleCount() throws Exception {
+        Category category = Category.builder().id(CATEGORY_ID).name("Food").build();
+        Budget budget = Budget.builder()
+                .id(100L).userId(USER_ID).category(category)
+                .amount(BigDecimal.valueOf(100))
+                .periodType(Budget.PeriodType.MONTHLY)
+                .startDate(LocalDate.now().withDayOfMonth(1))
+                .isActive(true)
+                .build();
+
+        // 두 핸들러가 모두 합계를 읽으러 들어올 때까지(최대 0.5초) 기다렸다가 응답: 예전 구현의 경합을 재현한다
+        CountDownLatch bothLoading = new CountDownLatch(2);
+        AtomicReference<BigDecimal> dbTotal = new AtomicReference<>(BigDecimal.valueOf(90));
+        BudgetRepository budgetRepository = mock(BudgetRepository.class);
+        when(budgetRepository.findActiveByUserIdAndCategoryIdIn(anyLong(), any())).thenReturn(List.of(budget));
+        when(budgetRepository.sumSpending(anyLong(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            bothLoading.countDown();
+            bothLoading.await(500, TimeUnit.MILLISECONDS);
+            return List.of(new BudgetSpending(CATEGORY_ID, 1L, LocalDate.now(), dbTotal.get()));
+        });
+
+        List<BudgetAlert> alerts = new CopyOnWriteArrayList<>();
+        BudgetRunningTotals totals = new BudgetRunningTotals();
+        BudgetAlertService service = new BudgetAlertService(
+                budgetRepository, totals, List.of(alerts::add), List.of(80, 100), Runnable::run);
+
+        // 이전 지출 30 에 30 씩 두 건: DB 합계 90 은 두 건을 모두 포함
+        long first = totals.beginChange();
+        long second = totals.beginChange();
+        totals.endChange(first);
+        totals.endChange(second);
+        CompletableFuture<Void> a = CompletableFuture.runAsync(() -> service.evaluate(expense(30), first));
+        CompletableFuture<Void> b = CompletableFuture.runAsync(() -> service.evaluate(expense(30), second));
+        CompletableFuture.allOf(a, b).get(5, TimeUnit.SECONDS);
+
+        // 이후 5 추가: 실제 누계 95 라 100% 알림이 나가면 안 된다 (중복 반영 시 125)
+        dbTotal.set(BigDecimal.valueOf(95));
+        long third = totals.beginChange();
+        totals.endChange(third);
+        service.evaluate(expense(5), third);
+
+        assertThat(alerts).extracting(BudgetAlert::getThreshold).containsExactly(80);
+        assertThat(alerts.get(0).getSpent()).isEqualByComparingTo("90");
+    }
+
+    private static TransactionChangedEvent expense(long amount) {
+        return new TransactionChangedEvent(USER_ID, null, null, new TransactionChangedEvent.Snapshot(
+                LocalDate.now(), Transaction.TransactionType.EXPENSE, BigDecimal.valueOf(amount),
+                CATEGORY_ID, 1L, null));
+    }
+}
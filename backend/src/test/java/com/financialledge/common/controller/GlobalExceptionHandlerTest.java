@@ -0,0 +1,57 @@
+package com.financialledge.common.controller;
+
+import com.financialledge.common.database.ConnectionAdmissionException;
+import org.hibernate.exception.JDBCConnectionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.sql.SQLTransientConnectionException;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 입장 제어 거절은 Hibernate/Spring 예외에 감싸여 올라와도 503 + Retry-After 로 응답한다
+class GlobalExceptionHandlerTest {
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new FailingController())
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    @Test
+    void wrappedAdmissionRejectionIsServiceUnavailableWithRetryAfter() throws Exception {
+        mockMvc.perform(get("/admission"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    void otherConnectionFailureIsServiceUnavailable() throws Exception {
+        mockMvc.perform(get("/connection"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().doesNotExist(HttpHeaders.RETRY_AFTER));
+    }
+
+    @RestController
+    static class FailingController {
+
+        @GetMapping("/admission")
+        String admission() {
+            throw new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                    new JDBCConnectionException("Unable to acquire JDBC Connection",
+                            new ConnectionAdmissionException("Database admission queue is full")));
+        }
+
+        @GetMapping("/connection")
+        String connection() {
+            throw new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                    new JDBCConnectionException("Unable to acquire JDBC Connection",
+                            new SQLTransientConnectionException("Connection is not available")));
+        }
+    }
+}
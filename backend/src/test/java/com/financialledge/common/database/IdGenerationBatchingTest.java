@@ -0,0 +1,141 @@
+package com.financialledge.common.database;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY 와 pooled SEQUENCE 의 INSERT 배치 여부 비교 (처리량 측정은 jmh 소스셋에서).
+ * IDENTITY 는 행마다 INSERT 를 실행하고, SEQUENCE 는 hibernate.jdbc.batch_size 단위로 배치된다.
+ * 애플리케이션 엔티티 스캔은 도메인 entity 패키지로 한정되어 있어(MiniMoneyApplication) 테스트 전용 엔티티는 잡히지 않는다.
+ */
+class IdGenerationBatchingTest {
+
+    private static final int ROWS = 5_000;
+    private static final int BATCH_SIZE = 50;
+
+    private static SessionFactory sessionFactory;
+
+    @Entity
+    @Table(name = "bench_identity_rows")
+    static class IdentityRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @Column(name = "transaction_date")
+        LocalDate transactionDate;
+        String description;
+        BigDecimal amount;
+    }
+
+    @Entity
+    @Table(name = "bench_sequence_rows")
+    static class SequenceRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bench_sequence_rows_seq")
+        @SequenceGenerator(name = "bench_sequence_rows_seq", sequenceName = "bench_sequence_rows_seq", allocationSize = 50)
+        Long id;
+        @Column(name = "transaction_date")
+        LocalDate transactionDate;
+        String description;
+        BigDecimal amount;
+    }
+
+    @BeforeAll
+    static void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(SequenceRow.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:id-benchmark;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .buildSessionFactory();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void sequenceIdsBatchInserts() {
+        Result identity = insert(i -> newIdentityRow(i), ROWS);
+        Result sequence = insert(i -> newSequenceRow(i), ROWS);
+
+        assertThat(identity.batches()).isZero();
+        assertThat(sequence.batches()).isGreaterThanOrEqualTo(ROWS / BATCH_SIZE);
+        // INSERT 배치 + 블록당 한 번의 시퀀스 조회
+        assertThat(sequence.statements()).isLessThan(identity.statements() / 10);
+    }
+
+    private Result insert(IntFunction<Object> rowFactory, int rows) {
+        JdbcCounter counter = new JdbcCounter();
+        try (Session session = sessionFactory.withOptions().eventListeners(counter).openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < rows; i++) {
+                session.persist(rowFactory.apply(i));
+                if ((i + 1) % 1_000 == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            session.getTransaction().commit();
+        }
+        return new Result(counter.statements, counter.batches);
+    }
+
+    private static IdentityRow newIdentityRow(int i) {
+        IdentityRow row = new IdentityRow();
+        row.transactionDate = LocalDate.of(2024, 1, 1).plusDays(i % 365);
+        row.description = "row " + i;
+        row.amount = BigDecimal.valueOf(i % 10_000, 2);
+        return row;
+    }
+
+    private static SequenceRow newSequenceRow(int i) {
+        SequenceRow row = new SequenceRow();
+        row.transactionDate = LocalDate.of(2024, 1, 1).plusDays(i % 365);
+        row.description = "row " + i;
+        row.amount = BigDecimal.valueOf(i % 10_000, 2);
+        return row;
+    }
+
+    private static class JdbcCounter extends BaseSessionEventListener {
+        long statements;
+        long batches;
+
+        @Override
+        public void jdbcPrepareStatementEnd() {
+            statements++;
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            batches++;
+        }
+    }
+
+    private record Result(long statements, long batches) {
+    }
+}
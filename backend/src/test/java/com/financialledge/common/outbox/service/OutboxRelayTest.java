@@ -0,0 +1,129 @@
+package com.financialledge.common.outbox.service;
+
+import com.financialledge.common.outbox.dto.OutboxMessage;
+import com.financialledge.common.outbox.publisher.OutboxPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 아웃박스 릴레이: 같은 집계의 이벤트는 커밋 순서대로 버전이 붙어 전달되고,
+ * 퍼블리셔가 실패하면 배치 전체가 남아 같은 id 로 다시 전달된다 (at-least-once).
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-relay;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        // 스케줄 주기가 테스트 중에 끼어들지 않도록
+        "outbox.relay.interval=3600000"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxService outboxService;
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RecordingPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("DELETE FROM outbox_aggregate_versions");
+        publisher.reset();
+    }
+
+    @Test
+    void relaysEventsOfOneAggregateInVersionOrder() {
+        append(OutboxService.CREATED);
+        append(OutboxService.UPDATED);
+        append(OutboxService.UPDATED);
+        append(OutboxService.DELETED);
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(4);
+
+        assertThat(publisher.delivered).extracting(OutboxMessage::getEventType)
+                .containsExactly("CREATED", "UPDATED", "UPDATED", "DELETED");
+        assertThat(publisher.delivered).extracting(OutboxMessage::getAggregateVersion)
+                .containsExactly(1L, 2L, 3L, 4L);
+        assertThat(count("outbox_events")).isZero();
+        // 삭제 이벤트는 버전 카운터 행도 지운다
+        assertThat(count("outbox_aggregate_versions")).isZero();
+    }
+
+    @Test
+    void redeliversWholeBatchAfterPublisherFailure() {
+        append(OutboxService.CREATED);
+        append(OutboxService.UPDATED);
+        publisher.failNext.set(1);
+
+        assertThatThrownBy(() -> outboxRelay.relayBatch()).isInstanceOf(RuntimeException.class);
+        assertThat(count("outbox_events")).isEqualTo(2);
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(2);
+        List<Long> firstAttempt = publisher.attempts.get(0).stream().map(OutboxMessage::getId).toList();
+        List<Long> retry = publisher.delivered.stream().map(OutboxMessage::getId).toList();
+        assertThat(retry).isEqualTo(firstAttempt);
+        assertThat(count("outbox_events")).isZero();
+    }
+
+    private void append(String eventType) {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxService.append("Transaction", 42L, eventType, 1L, Map.of("id", 42)));
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    @TestConfiguration
+    static class PublisherConfig {
+
+        @Bean
+        RecordingPublisher recordingPublisher() {
+            return new RecordingPublisher();
+        }
+    }
+
+    static class RecordingPublisher implements OutboxPublisher {
+
+        final List<List<OutboxMessage>> attempts = new CopyOnWriteArrayList<>();
+        final List<OutboxMessage> delivered = new CopyOnWriteArrayList<>();
+        final AtomicInteger failNext = new AtomicInteger();
+
+        @Override
+        public void publish(List<OutboxMessage> messages) {
+            attempts.add(List.copyOf(messages));
+            if (failNext.getAndUpdate(n -> Math.max(n - 1, 0)) > 0) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            delivered.addAll(messages);
+        }
+
+        void reset() {
+            attempts.clear();
+            delivered.clear();
+            failNext.set(0);
+        }
+    }
+}
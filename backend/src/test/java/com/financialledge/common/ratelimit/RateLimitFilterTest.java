@@ -0,0 +1,51 @@
+package com.financialledge.common.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한도를 넘으면 429 + Retry-After(초), 키(IP)마다 따로 센다
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(meterRegistry, true, 1000,
+            2, Duration.ofMinutes(1), 100, Duration.ofSeconds(10));
+
+    @Test
+    void rejectsAuthRequestsOverLimitWithRetryAfter() throws Exception {
+        assertThat(call("/api/auth/login", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(call("/api/auth/login", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+
+        MockHttpServletResponse rejected = call("/api/auth/login", "10.0.0.1");
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        // 1분에 2번이면 다음 토큰은 30초 뒤
+        assertThat(Long.parseLong(rejected.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, 30L);
+        assertThat(meterRegistry.counter("rate.limit.rejected", "policy", "auth").count()).isEqualTo(1.0);
+
+        assertThat(call("/api/auth/login", "10.0.0.2").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void skipsNonApiAndHealthRequests() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(call("/api/health", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+            assertThat(call("/actuator/health", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+    }
+
+    private MockHttpServletResponse call(String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
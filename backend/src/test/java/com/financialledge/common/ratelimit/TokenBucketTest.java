@@ -0,0 +1,42 @@
+package com.financialledge.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// GCRA: burst 만큼 몰아 쓰고, 이후엔 interval 마다 하나씩
+class TokenBucketTest {
+
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private static final long BURST = INTERVAL * 3;
+
+    @Test
+    void allowsBurstThenWaitsForNextToken() {
+        long now = 1_000_000_000L;
+        TokenBucket bucket = new TokenBucket(now);
+
+        assertThat(bucket.tryConsume(now, INTERVAL, BURST)).isZero();
+        assertThat(bucket.tryConsume(now, INTERVAL, BURST)).isZero();
+        assertThat(bucket.tryConsume(now, INTERVAL, BURST)).isZero();
+        assertThat(bucket.tryConsume(now, INTERVAL, BURST)).isEqualTo(INTERVAL);
+
+        // 거절은 상태를 바꾸지 않는다
+        assertThat(bucket.tryConsume(now + INTERVAL / 2, INTERVAL, BURST)).isEqualTo(INTERVAL / 2);
+        assertThat(bucket.tryConsume(now + INTERVAL, INTERVAL, BURST)).isZero();
+        assertThat(bucket.tryConsume(now + INTERVAL, INTERVAL, BURST)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void doesNotAccumulateBeyondBurstWhenIdle() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(now);
+        long later = now + INTERVAL * 100;
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryConsume(later, INTERVAL, BURST)).isZero();
+        }
+        assertThat(bucket.tryConsume(later, INTERVAL, BURST)).isPositive();
+    }
+}
@@ -0,0 +1,136 @@
+package com.financialledge.sync.service;
+
+import com.financialledge.sync.dto.SyncResponse;
+import com.financialledge.sync.dto.SyncToken;
+import com.financialledge.sync.dto.SyncTransaction;
+import com.financialledge.sync.repository.SyncChangeRepository;
+import com.financialledge.sync.repository.SyncTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 동기화 토큰 왕복과 상한(watermark) 선택: PostgreSQL 은 열린 트랜잭션 기준, 그 밖은 DB 시각 - allowance
+class SyncServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime DB_NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    private SyncChangeRepository changes;
+    private SyncService service;
+
+    @BeforeEach
+    void setUp() {
+        changes = mock(SyncChangeRepository.class);
+        SyncTombstoneService tombstones = mock(SyncTombstoneService.class);
+        when(tombstones.retainedSince(any())).thenReturn(LocalDateTime.of(2000, 1, 1, 0, 0));
+        service = new SyncService(changes, mock(SyncTombstoneRepository.class), tombstones,
+                mock(DataSource.class), Duration.ofSeconds(5));
+    }
+
+    @Test
+    void encodesAndDecodesTokens() {
+        SyncToken full = SyncToken.after(DB_NOW);
+        SyncToken decoded = SyncToken.decode(full.encode());
+        assertThat(decoded.getSince()).isEqualTo(DB_NOW);
+        assertThat(decoded.isContinuation()).isFalse();
+
+        SyncToken continuation = new SyncToken(null, DB_NOW, DB_NOW.minusMinutes(1), 42L);
+        decoded = SyncToken.decode(continuation.encode());
+        assertThat(decoded.getSince()).isNull();
+        assertThat(decoded.getUntil()).isEqualTo(DB_NOW);
+        assertThat(decoded.getAfterUpdatedAt()).isEqualTo(DB_NOW.minusMinutes(1));
+        assertThat(decoded.getAfterId()).isEqualTo(42L);
+        assertThat(decoded.isContinuation()).isTrue();
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        String otherVersion = Base64.getUrlEncoder().withoutPadding().encodeToString("v0||||".getBytes());
+        assertThatThrownBy(() -> SyncToken.decode(otherVersion)).hasMessage("Invalid sync token");
+        String truncated = Base64.getUrlEncoder().withoutPadding().encodeToString("v1|".getBytes());
+        assertThatThrownBy(() -> SyncToken.decode(truncated)).hasMessage("Invalid sync token");
+    }
+
+    @Test
+    void usesDatabaseTimeMinusAllowanceWithoutOpenTransactionWatermark() {
+        when(changes.findDatabaseTime()).thenReturn(DB_NOW);
+
+        SyncResponse response = service.getChanges(USER_ID, null, 10);
+
+        assertThat(response.isFullSync()).isTrue();
+        assertThat(SyncToken.decode(response.getNextToken()).getSince()).isEqualTo(DB_NOW.minusSeconds(5));
+        verify(changes, never()).findOpenTransactionWatermark();
+    }
+
+    @Test
+    void usesOldestOpenTransactionOnPostgres() {
+        ReflectionTestUtils.setField(service, "openTransactionWatermark", true);
+        when(changes.findOpenTransactionWatermark()).thenReturn(DB_NOW);
+
+        SyncResponse response = service.getChanges(USER_ID, null, 10);
+
+        assertThat(SyncToken.decode(response.getNextToken()).getSince()).isEqualTo(DB_NOW.minusNanos(1_000));
+        verify(changes, never()).findDatabaseTime();
+    }
+
+    @Test
+    void failsClosedWhenOpenTransactionsAreNotVisible() {
+        ReflectionTestUtils.setField(service, "openTransactionWatermark", true);
+        when(changes.findOpenTransactionWatermark()).thenReturn(null);
+
+        assertThatThrownBy(() -> service.getChanges(USER_ID, SyncToken.after(DB_NOW.minusHours(1)).encode(), 10))
+                .isInstanceOf(SyncUnavailableException.class);
+    }
+
+    @Test
+    void continuationKeepsUntilAndResumesAfterLastRow() {
+        when(changes.findDatabaseTime()).thenReturn(DB_NOW);
+        LocalDateTime since = DB_NOW.minusHours(1);
+        LocalDateTime until = DB_NOW.minusSeconds(5);
+        when(changes.findTransactions(eq(USER_ID), eq(since), eq(Long.MAX_VALUE), eq(until), any(Limit.class)))
+                .thenReturn(List.of(row(7L, since.plusMinutes(1)), row(8L, since.plusMinutes(1)), row(9L, since.plusMinutes(2))));
+
+        SyncResponse first = service.getChanges(USER_ID, SyncToken.after(since).encode(), 2);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getTransactions()).extracting(SyncTransaction::getId).containsExactly(7L, 8L);
+        SyncToken next = SyncToken.decode(first.getNextToken());
+        assertThat(next.getUntil()).isEqualTo(until);
+        assertThat(next.getAfterUpdatedAt()).isEqualTo(since.plusMinutes(1));
+        assertThat(next.getAfterId()).isEqualTo(8L);
+
+        when(changes.findTransactions(eq(USER_ID), eq(since.plusMinutes(1)), eq(8L), eq(until), any(Limit.class)))
+                .thenReturn(List.of(row(9L, since.plusMinutes(2))));
+        when(changes.findDatabaseTime()).thenReturn(DB_NOW.plusHours(1));
+
+        SyncResponse second = service.getChanges(USER_ID, first.getNextToken(), 2);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getTransactions()).extracting(SyncTransaction::getId).containsExactly(9L);
+        // 이어받기 페이지는 첫 페이지의 상한을 그대로 쓴다
+        assertThat(SyncToken.decode(second.getNextToken()).getSince()).isEqualTo(until);
+        verify(changes, never()).findTransactions(eq(USER_ID), eq(until), anyLong(), any(), any(Limit.class));
+    }
+
+    private static SyncTransaction row(Long id, LocalDateTime updatedAt) {
+        SyncTransaction transaction = new SyncTransaction();
+        transaction.setId(id);
+        transaction.setUpdatedAt(updatedAt);
+        return transaction;
+    }
+}
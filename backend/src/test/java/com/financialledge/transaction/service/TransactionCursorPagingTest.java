@@ -0,0 +1,93 @@
+package com.financialledge.transaction.service;
+
+import com.financialledge.transaction.dto.TransactionCursor;
+import com.financialledge.transaction.dto.TransactionPageResponse;
+import com.financialledge.transaction.dto.TransactionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 거래 목록 keyset 페이지: 날짜와 updatedAt 이 같은 거래가 페이지 경계에 걸려도 id 로 이어 받아
+ * 빠지거나 겹치는 행이 없다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transaction-cursor;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class TransactionCursorPagingTest {
+
+    private static final long USER_ID = 1L;
+    private static final LocalDateTime STAMP = LocalDateTime.of(2026, 9, 10, 9, 0);
+
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM transactions");
+        jdbcTemplate.update("DELETE FROM accounts");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("INSERT INTO users (id, username, email, password) VALUES (?, 'alice', 'alice@example.com', 'x')",
+                USER_ID);
+        jdbcTemplate.update("INSERT INTO accounts (id, name, account_type, balance, currency, is_active) " +
+                "VALUES (1, 'Main', 'BANK', 0, 'KRW', true)");
+        // 같은 날짜, 같은 updatedAt 인 거래 다섯 건
+        for (long id = 10; id <= 14; id++) {
+            insert(id, LocalDate.of(2026, 9, 10), STAMP);
+        }
+        insert(5, LocalDate.of(2026, 9, 10), STAMP.plusSeconds(1));
+        insert(20, LocalDate.of(2026, 9, 9), STAMP.plusDays(1));
+    }
+
+    @Test
+    void pagesThroughEqualTimestampsWithoutGapsOrDuplicates() {
+        List<Long> ids = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            TransactionPageResponse page = transactionService.getTransactionPage(USER_ID, cursor, 2);
+            page.getContent().forEach(row -> ids.add(row.getId()));
+            pageSizes.add(page.getSize());
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        assertThat(ids).containsExactly(5L, 14L, 13L, 12L, 11L, 10L, 20L);
+        assertThat(pageSizes).containsExactly(2, 2, 2, 1);
+    }
+
+    @Test
+    void cursorRoundTripsAndRejectsGarbage() {
+        TransactionResponse last = transactionService.getTransactionPage(USER_ID, null, 2).getContent().get(1);
+        TransactionCursor cursor = TransactionCursor.decode(TransactionCursor.from(last).encode());
+        assertThat(cursor.getTransactionDate()).isEqualTo(LocalDate.of(2026, 9, 10));
+        assertThat(cursor.getUpdatedAt()).isEqualTo(STAMP);
+        assertThat(cursor.getId()).isEqualTo(14L);
+
+        assertThatThrownBy(() -> transactionService.getTransactionPage(USER_ID, "not-a-cursor", 2))
+                .hasMessageStartingWith("Invalid cursor");
+    }
+
+    private void insert(long id, LocalDate date, LocalDateTime updatedAt) {
+        jdbcTemplate.update("INSERT INTO transactions (id, user_id, transaction_date, description, amount, " +
+                        "transaction_type, account_id, created_at, updated_at) VALUES (?, ?, ?, ?, 1, 'EXPENSE', 1, ?, ?)",
+                id, USER_ID, date, "tx " + id, updatedAt, updatedAt);
+    }
+}
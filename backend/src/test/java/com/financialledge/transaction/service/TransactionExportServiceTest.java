@@ -0,0 +1,107 @@
+package com.financialledge.transaction.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.financialledge.account.entity.Account;
+import com.financialledge.transaction.entity.Transaction;
+import com.financialledge.transaction.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 행을 하나 쓰고 바로 detach 한 뒤 다음 행을 읽는다 (영속성 컨텍스트가 쌓이지 않음)
+class TransactionExportServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    private TransactionRepository repository;
+    private TransactionExportService service;
+    private final List<Transaction> detached = new ArrayList<>();
+    private final AtomicBoolean streamClosed = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TransactionRepository.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        doAnswer(invocation -> detached.add(invocation.getArgument(0))).when(entityManager).detach(any());
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new TransactionExportService(repository, entityManager, mock(PlatformTransactionManager.class),
+                objectMapper);
+    }
+
+    @Test
+    void streamsCsvDetachingEachRowBeforeReadingTheNext() {
+        List<Transaction> transactions = List.of(
+                transaction(1L, "Coffee, large", "say \"hi\""),
+                transaction(2L, "Lunch", null),
+                transaction(3L, "Dinner", "two\nlines"));
+        AtomicInteger read = new AtomicInteger();
+        when(repository.streamByUserIdAndTransactionDateBetween(eq(USER_ID), any(), any()))
+                .thenReturn(transactions.stream()
+                        .peek(t -> assertThat(detached).hasSize(read.getAndIncrement()))
+                        .onClose(() -> streamClosed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.export(USER_ID, TransactionExportService.ExportFormat.CSV, null, null, out);
+
+        assertThat(detached).containsExactlyElementsOf(transactions);
+        assertThat(streamClosed).isTrue();
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("id,transactionDate,transactionType,amount,description,");
+        assertThat(csv).contains("1,2026-09-01,EXPENSE,12.50,\"Coffee, large\",,,1,Main,,,\"say \"\"hi\"\"\"");
+        assertThat(csv).contains("\"two\nlines\"");
+        assertThat(csv.split("\r\n")).hasSize(4);
+    }
+
+    @Test
+    void streamsOneJsonObjectPerLine() throws Exception {
+        when(repository.streamByUserIdAndTransactionDateBetween(USER_ID, LocalDate.of(2026, 9, 1), LocalDate.of(2026, 9, 30)))
+                .thenReturn(Stream.of(transaction(1L, "Coffee", null), transaction(2L, "Lunch", null))
+                        .onClose(() -> streamClosed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.export(USER_ID, TransactionExportService.ExportFormat.NDJSON,
+                LocalDate.of(2026, 9, 1), LocalDate.of(2026, 9, 30), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("description").asText()).isEqualTo("Coffee");
+        assertThat(first.get("transactionDate").asText()).isEqualTo("2026-09-01");
+        assertThat(detached).hasSize(2);
+        assertThat(streamClosed).isTrue();
+    }
+
+    private static Transaction transaction(Long id, String description, String notes) {
+        return Transaction.builder()
+                .id(id)
+                .transactionDate(LocalDate.of(2026, 9, 1))
+                .transactionType(Transaction.TransactionType.EXPENSE)
+                .amount(new BigDecimal("12.50"))
+                .description(description)
+                .account(Account.builder().id(1L).name("Main").build())
+                .notes(notes)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.financialledge.transaction.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financialledge.account.entity.Account;
+import com.financialledge.account.repository.AccountRepository;
+import com.financialledge.account.service.AccountBalanceService;
+import com.financialledge.category.repository.CategoryRepository;
+import com.financialledge.transaction.dto.ImportJobResponse;
+import com.financialledge.transaction.dto.ImportRowError;
+import com.financialledge.transaction.entity.Transaction;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 잘못된 행은 행 번호와 함께 오류로 남기고, 나머지 행은 그대로 가져온다
+class TransactionImportWorkerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private EntityManager entityManager;
+    private TransactionImportWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        when(accountRepository.findAllById(anyCollection())).thenReturn(List.of(Account.builder().id(1L).build()));
+        worker = new TransactionImportWorker(entityManager, mock(CategoryRepository.class), accountRepository,
+                mock(DailyUserTotalService.class), mock(AccountBalanceService.class),
+                mock(TransactionOutboxWriter.class), mock(ApplicationEventPublisher.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new ObjectMapper());
+    }
+
+    @Test
+    void reportsInvalidCsvRowsAndImportsTheRest() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("import.csv"),
+                "transactionDate,transactionType,amount,description,accountId\n"
+                        + "2026-09-01,EXPENSE,12.50,\"Lunch, downtown\",1\n"
+                        + "2026-13-01,EXPENSE,5,Bad date,1\n"
+                        + "2026-09-02,EXPENSE,-3,Negative,1\n"
+                        + "2026-09-03,INCOME,3000,Salary,99\n"
+                        + "2026-09-04,EXPENSE,7\n"
+                        + "2026-09-05,expense,4.00,Snack,1\n");
+        TransactionImportJob job = new TransactionImportJob(1L);
+
+        worker.run(job, file, TransactionImportService.ImportFormat.CSV);
+
+        ImportJobResponse result = job.toResponse();
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getFailedRows()).isEqualTo(4);
+        assertThat(result.getErrors()).extracting(ImportRowError::getRow).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(result.getErrors()).extracting(ImportRowError::getMessage).containsExactly(
+                "Invalid transactionDate: 2026-13-01",
+                "Amount out of range: -3",
+                "Unknown accountId: 99",
+                "description is required");
+
+        ArgumentCaptor<Transaction> persisted = ArgumentCaptor.forClass(Transaction.class);
+        verify(entityManager, times(2)).persist(persisted.capture());
+        assertThat(persisted.getAllValues()).extracting(Transaction::getDescription)
+                .containsExactly("Lunch, downtown", "Snack");
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    void reportsMalformedNdjsonLineAndContinues() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("import.ndjson"),
+                "{\"transactionDate\":\"2026-09-01\",\"transactionType\":\"EXPENSE\",\"amount\":\"1\",\"description\":\"A\",\"accountId\":\"1\"}\n"
+                        + "{\"transactionDate\": \n"
+                        + "[1,2]\n"
+                        + "{\"transactionDate\":\"2026-09-02\",\"transactionType\":\"EXPENSE\",\"amount\":\"2\",\"description\":\"B\",\"accountId\":\"1\"}\n");
+        TransactionImportJob job = new TransactionImportJob(1L);
+
+        worker.run(job, file, TransactionImportService.ImportFormat.JSON);
+
+        ImportJobResponse result = job.toResponse();
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ImportRowError::getRow).containsExactly(2L, 3L);
+        assertThat(result.getErrors().get(0).getMessage()).startsWith("Malformed JSON");
+        assertThat(result.getErrors().get(1).getMessage()).isEqualTo("Row must be a JSON object");
+        verify(entityManager, times(2)).persist(any(Transaction.class));
+    }
+}
@@ -0,0 +1,89 @@
+package com.financialledge.transaction.service;
+
+import com.financialledge.transaction.dto.TransactionPageResponse;
+import com.financialledge.transaction.dto.TransactionResponse;
+import com.financialledge.transaction.dto.TransactionSearchCursor;
+import com.financialledge.transaction.dto.TransactionSearchHit;
+import com.financialledge.transaction.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 점수 창을 다 넘기면 더 오래된 일치로 이어 가고, 다음 페이지 커서가 그 창을 가리킨다
+class TransactionSearchServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Test
+    void pagesPastTheRankedWindow() {
+        TransactionRepository repository = mock(TransactionRepository.class);
+        // 첫 창: 두 건뿐이지만 가득 찬 창이라 id 500 미만에 더 오래된 일치가 있다
+        when(repository.searchFirstPage(eq(USER_ID), any(), eq(Long.MAX_VALUE), anyInt(), anyInt()))
+                .thenReturn(List.of(hit(900, 0.9f), hit(800, 0.5f)));
+        when(repository.searchWindowFloor(eq(USER_ID), any(), eq(Long.MAX_VALUE), anyInt())).thenReturn(500L);
+        when(repository.searchFirstPage(eq(USER_ID), any(), eq(500L), anyInt(), anyInt()))
+                .thenReturn(List.of(hit(300, 0.8f), hit(200, 0.1f)));
+        when(repository.searchPageAfter(eq(USER_ID), any(), eq(500L), anyInt(), anyFloat(), anyLong(), anyInt()))
+                .thenReturn(List.of(hit(200, 0.1f)));
+        when(repository.searchWindowFloor(eq(USER_ID), any(), eq(500L), anyInt())).thenReturn(null);
+        when(repository.findResponsesByUserIdAndIdIn(eq(USER_ID), any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(1);
+            return ids.stream().map(TransactionSearchServiceTest::response).toList();
+        });
+
+        TransactionSearchService service = new TransactionSearchService(repository, mock(DataSource.class));
+        ReflectionTestUtils.setField(service, "fullTextSearch", true);
+
+        TransactionPageResponse first = service.search(USER_ID, "coffee", null, 3);
+        assertThat(first.getContent()).extracting(TransactionResponse::getId).containsExactly(900L, 800L, 300L);
+        assertThat(first.isHasNext()).isTrue();
+        TransactionSearchCursor cursor = TransactionSearchCursor.decode(first.getNextCursor());
+        assertThat(cursor.getWindow()).isEqualTo(500L);
+        assertThat(cursor.getId()).isEqualTo(300L);
+
+        TransactionPageResponse second = service.search(USER_ID, "coffee", first.getNextCursor(), 3);
+        assertThat(second.getContent()).extracting(TransactionResponse::getId).containsExactly(200L);
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    void decodesCursorsWithoutWindowAsFirstWindow() {
+        String legacy = Base64.getUrlEncoder().withoutPadding().encodeToString("0.5|42".getBytes());
+        TransactionSearchCursor cursor = TransactionSearchCursor.decode(legacy);
+        assertThat(cursor.getWindow()).isEqualTo(Long.MAX_VALUE);
+        assertThat(cursor.getId()).isEqualTo(42L);
+    }
+
+    private static TransactionSearchHit hit(long id, float rank) {
+        return new TransactionSearchHit() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Float getRank() {
+                return rank;
+            }
+        };
+    }
+
+    private static TransactionResponse response(Long id) {
+        TransactionResponse response = new TransactionResponse();
+        response.setId(id);
+        return response;
+    }
+}
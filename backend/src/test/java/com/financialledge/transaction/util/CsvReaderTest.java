@@ -0,0 +1,44 @@
+package com.financialledge.transaction.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// RFC 4180: 따옴표 안의 쉼표/따옴표/줄바꿈
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFields() throws IOException {
+        String csv = "date,description,notes\n"
+                + "2026-09-01,\"Coffee, large\",\"He said \"\"hi\"\"\"\n"
+                + "2026-09-02,\"two\nlines\",\n";
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            assertThat(reader.readRecord()).containsExactly("date", "description", "notes");
+            assertThat(reader.readRecord()).containsExactly("2026-09-01", "Coffee, large", "He said \"hi\"");
+            assertThat(reader.readRecord()).containsExactly("2026-09-02", "two\nlines", "");
+            assertThat(reader.readRecord()).isNull();
+        }
+    }
+
+    @Test
+    void keepsShortAndEmptyRowsForTheCallerToValidate() throws IOException {
+        try (CsvReader reader = new CsvReader(new StringReader("a,b,c\n\nonly\n"))) {
+            assertThat(reader.readRecord()).containsExactly("a", "b", "c");
+            assertThat(reader.readRecord()).containsExactly("");
+            assertThat(reader.readRecord()).containsExactly("only");
+        }
+    }
+
+    @Test
+    void rejectsUnterminatedQuote() throws IOException {
+        try (CsvReader reader = new CsvReader(new StringReader("a,\"open\nnever closed\n"))) {
+            assertThatThrownBy(reader::readRecord)
+                    .isInstanceOf(IOException.class)
+                    .hasMessage("Unterminated quoted field");
+        }
+    }
+}